@@ -0,0 +1,111 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.stefan_oltmann.poker.model.hand.Deck;
+import de.stefan_oltmann.poker.model.hand.Variante;
+import de.stefan_oltmann.poker.model.hand.Zufallsquelle;
+
+/**
+ * Misst das Mischen und Abheben. Eine Hand Heads-Up braucht vier Hole Cards,
+ * fünf Gemeinschaftskarten und drei Burn Cards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    private static final int KARTEN_PRO_HAND = 12;
+
+    private Deck deck;
+
+    private Deck sicheresDeck;
+
+    private Deck deckMitSicheremSeed;
+
+    @Setup
+    public void erzeugeDecks() {
+        deck = new Deck(Zufallsquelle.mitSeed(4711));
+        sicheresDeck = new Deck(Zufallsquelle.sicher());
+        deckMitSicheremSeed = new Deck(Variante.TEXAS_HOLDEM, new byte[Zufallsquelle.SICHERER_SEED_LAENGE]);
+    }
+
+    @Benchmark
+    public void neuMischen() {
+        deck.neuMischen();
+    }
+
+    @Benchmark
+    public void hand(Blackhole blackhole) {
+
+        deck.neuMischen();
+
+        for (int i = 0; i < KARTEN_PRO_HAND; i++)
+            blackhole.consume(deck.hebeKarteAb());
+    }
+
+    @Benchmark
+    public void ganzesDeck(Blackhole blackhole) {
+
+        deck.neuMischen();
+
+        for (int i = 0; i < Deck.ANZAHL_KARTEN; i++)
+            blackhole.consume(deck.hebeKarteAb());
+    }
+
+    /** Wie hand(), aber direkt mit SecureRandom */
+    @Benchmark
+    public void handSicher(Blackhole blackhole) {
+
+        sicheresDeck.neuMischen();
+
+        for (int i = 0; i < KARTEN_PRO_HAND; i++)
+            blackhole.consume(sicheresDeck.hebeKarteAb());
+    }
+
+    /** Wie hand(), aber mit einem Seed von 256 Bit wie im Server */
+    @Benchmark
+    public void handMitSicheremSeed(Blackhole blackhole) {
+
+        deckMitSicheremSeed.neuMischen();
+
+        for (int i = 0; i < KARTEN_PRO_HAND; i++)
+            blackhole.consume(deckMitSicheremSeed.hebeKarteAb());
+    }
+}
@@ -0,0 +1,105 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.stefan_oltmann.poker.model.hand.Hand;
+import de.stefan_oltmann.poker.model.hand.HandBewerter;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+/**
+ * Misst die Bewertung von Händen aus 5, 6 und 7 Karten. Die Hände werden
+ * einmal mit festem Seed erzeugt und reihum bewertet, damit jeder Lauf
+ * dieselben Hände sieht und der Branch Predictor nicht immer dieselbe Hand
+ * lernt.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+
+    /* Zweierpotenz, damit der Index per Maske umläuft */
+    private static final int ANZAHL_HAENDE = 1 << 12;
+
+    @Param({ "5", "6", "7" })
+    public int anzahlKarten;
+
+    private List<List<Karte>> haende;
+
+    private long[] masken;
+
+    private int index;
+
+    @Setup
+    public void erzeugeHaende() {
+
+        Random random = new Random(4711);
+
+        List<Karte> deck = new ArrayList<Karte>(Arrays.asList(Karte.values()));
+
+        haende = new ArrayList<List<Karte>>(ANZAHL_HAENDE);
+        masken = new long[ANZAHL_HAENDE];
+
+        for (int i = 0; i < ANZAHL_HAENDE; i++) {
+
+            Collections.shuffle(deck, random);
+
+            List<Karte> hand = new ArrayList<Karte>(deck.subList(0, anzahlKarten));
+
+            haende.add(hand);
+            masken[i] = KartenMaske.von(hand);
+        }
+    }
+
+    @Benchmark
+    public Hand berechneBesteHand() {
+        return Hand.berechneBesteHand(haende.get(index++ & (ANZAHL_HAENDE - 1)));
+    }
+
+    /** Zum Vergleich: der Bit-Masken-Bewerter auf denselben Händen */
+    @Benchmark
+    public int handBewerter() {
+        return HandBewerter.bewerte(masken[index++ & (ANZAHL_HAENDE - 1)]);
+    }
+}
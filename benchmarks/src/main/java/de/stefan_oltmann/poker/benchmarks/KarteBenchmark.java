@@ -0,0 +1,94 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.Karte.Farbe;
+import de.stefan_oltmann.poker.model.hand.Karte.Wert;
+
+/**
+ * Misst die Hilfs-Methoden von {@link Karte}, auf denen
+ * {@link de.stefan_oltmann.poker.model.hand.Hand#berechneBesteHand} aufbaut,
+ * jeweils mit sieben Karten.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KarteBenchmark {
+
+    private List<Karte> karten;
+
+    private List<Karte> sortierteKarten;
+
+    @Setup
+    public void erzeugeKarten() {
+
+        List<Karte> deck = new ArrayList<Karte>(Arrays.asList(Karte.values()));
+
+        Collections.shuffle(deck, new Random(4711));
+
+        karten = new ArrayList<Karte>(deck.subList(0, 7));
+        sortierteKarten = Karte.getSortiertNachWert(karten);
+    }
+
+    @Benchmark
+    public List<Karte> getSortiertNachWert() {
+        return Karte.getSortiertNachWert(karten);
+    }
+
+    @Benchmark
+    public Map<Farbe, List<Karte>> erstelleKartenProFarbeMap() {
+        return Karte.erstelleKartenProFarbeMap(sortierteKarten);
+    }
+
+    @Benchmark
+    public Map<Wert, List<Karte>> erstelleKartenProWertMap() {
+        return Karte.erstelleKartenProWertMap(sortierteKarten);
+    }
+
+    @Benchmark
+    public List<Karte> findeKartenMitWert() {
+        return Karte.findeKartenMitWert(karten, karten.get(0).wert);
+    }
+}
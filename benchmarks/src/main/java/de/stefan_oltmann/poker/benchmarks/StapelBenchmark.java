@@ -0,0 +1,113 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+import de.stefan_oltmann.poker.model.hand.SiebenKartenTabelle;
+import de.stefan_oltmann.poker.model.hand.StapelBewerter;
+
+/**
+ * Misst den StapelBewerter auf einem Stapel aus Händen mit sieben Karten,
+ * einmal über den HandBewerter und einmal über die SiebenKartenTabelle. Die
+ * Ergebnisse sind Hände pro Sekunde.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StapelBenchmark {
+
+    private static final int ANZAHL_HAENDE = 1 << 16;
+
+    private long[] masken;
+
+    private int[] raenge;
+
+    private File datei;
+
+    private SiebenKartenTabelle tabelle;
+
+    @Setup
+    public void erzeugeHaende() throws IOException {
+
+        Random random = new Random(4711);
+
+        Karte[] karten = Karte.values();
+
+        masken = new long[ANZAHL_HAENDE];
+        raenge = new int[ANZAHL_HAENDE];
+
+        for (int i = 0; i < ANZAHL_HAENDE; i++)
+            while (KartenMaske.getAnzahl(masken[i]) < SiebenKartenTabelle.ANZAHL_KARTEN)
+                masken[i] |= KartenMaske.von(karten[random.nextInt(karten.length)]);
+
+        datei = File.createTempFile("sieben_karten", ".tbl");
+
+        SiebenKartenTabelle.erzeuge(datei);
+
+        tabelle = SiebenKartenTabelle.lade(datei);
+    }
+
+    @TearDown
+    public void loescheTabelle() {
+        datei.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL_HAENDE)
+    public int[] handBewerter() {
+
+        StapelBewerter.bewerte(masken, raenge);
+
+        return raenge;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ANZAHL_HAENDE)
+    public int[] siebenKartenTabelle() {
+
+        StapelBewerter.bewerte(tabelle, masken, raenge);
+
+        return raenge;
+    }
+}
@@ -1,34 +1,34 @@
-package de.stefan_oltmann.poker.commons;
-/*****************************************************************************
- * Stefans Poker Game                                                        *
- *                                                                           *
- * Copyright (C) 2016 Stefan Oltmann                                         *
- *                                                                           *
- * Contact : pokergame@stefan-oltmann.de                                     *
- * Homepage: http://www.stefan-oltmann.de/                                   *      
- *                                                                           *
- * This program is free software: you can redistribute it and/or modify      *
- * it under the terms of the GNU Affero General Public License as            *
- * published by the Free Software Foundation, either version 3 of the        *
- * License, or (at your option) any later version.                           *
- *                                                                           *
- * This program is distributed in the hope that it will be useful,           *
- * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
- * GNU Affero General Public License for more details.                       *
- *                                                                           *
- * You should have received a copy of the GNU Affero General Public License  *
- * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
- *****************************************************************************/
-
-
-/**
- * Die Implementierungen dieses Interfaces senden Nachrichten im JSON-Format.
- * Es gibt eine Client-Implementierung, die an den Server sendet und eine
- * Server-Implementierung, die an alle verbundenen Clients sendet.
- */
-public interface MessageSender {
-
-    void send(String message);
-
-}
+package de.stefan_oltmann.poker.commons;
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+
+
+/**
+ * Die Implementierungen dieses Interfaces senden Nachrichten im JSON-Format.
+ * Es gibt eine Client-Implementierung, die an den Server sendet und eine
+ * Server-Implementierung, die an alle verbundenen Clients sendet.
+ */
+public interface MessageSender {
+
+    void send(String message);
+
+}
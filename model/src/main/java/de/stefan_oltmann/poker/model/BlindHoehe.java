@@ -1,52 +1,52 @@
-/*****************************************************************************
- * Stefans Poker Game                                                        *
- *                                                                           *
- * Copyright (C) 2016 Stefan Oltmann                                         *
- *                                                                           *
- * Contact : pokergame@stefan-oltmann.de                                     *
- * Homepage: http://www.stefan-oltmann.de/                                   *      
- *                                                                           *
- * This program is free software: you can redistribute it and/or modify      *
- * it under the terms of the GNU Affero General Public License as            *
- * published by the Free Software Foundation, either version 3 of the        *
- * License, or (at your option) any later version.                           *
- *                                                                           *
- * This program is distributed in the hope that it will be useful,           *
- * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
- * GNU Affero General Public License for more details.                       *
- *                                                                           *
- * You should have received a copy of the GNU Affero General Public License  *
- * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
- *****************************************************************************/
-package de.stefan_oltmann.poker.model;
-
-public enum BlindHoehe {
-
-    BLIND_1_2(1, 2),
-    BLIND_5_10(5, 10),
-    BLIND_50_100(50, 100),
-    BLIND_500_1000(500, 1000),
-    BLIND_1000_2000(1000, 2000),
-    BLIND_5000_10000(5000, 10000);
-
-    private int smallBlind;
-    private int bigBlind;
-
-    private BlindHoehe(int smallBlind, int bigBlind) {
-        this.smallBlind = smallBlind;
-        this.bigBlind = bigBlind;
-    }
-
-    public int getSmallBlind() {
-        return smallBlind;
-    }
-
-    public int getBigBlind() {
-        return bigBlind;
-    }
-
-    public int getBuyIn() {
-        return bigBlind * 100;
-    }
-}
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model;
+
+public enum BlindHoehe {
+
+    BLIND_1_2(1, 2),
+    BLIND_5_10(5, 10),
+    BLIND_50_100(50, 100),
+    BLIND_500_1000(500, 1000),
+    BLIND_1000_2000(1000, 2000),
+    BLIND_5000_10000(5000, 10000);
+
+    private int smallBlind;
+    private int bigBlind;
+
+    private BlindHoehe(int smallBlind, int bigBlind) {
+        this.smallBlind = smallBlind;
+        this.bigBlind = bigBlind;
+    }
+
+    public int getSmallBlind() {
+        return smallBlind;
+    }
+
+    public int getBigBlind() {
+        return bigBlind;
+    }
+
+    public int getBuyIn() {
+        return bigBlind * 100;
+    }
+}
@@ -0,0 +1,133 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model;
+
+import java.util.Arrays;
+
+/**
+ * Berechnet Haupt- und Seitenpots aus den Einsätzen pro Platz, wenn Spieler
+ * mit unterschiedlich großen Stacks All-In gegangen sind.
+ *
+ * Jeder unterschiedliche Einsatz eines noch beteiligten Spielers ist eine
+ * Stufe. Die Stufen werden sortiert (O(n log n)) und jeder Pot bekommt von
+ * jedem Platz den Teil seines Einsatzes, der zwischen der vorherigen und
+ * seiner Stufe liegt. Berechtigt sind die beteiligten Plätze, die mindestens
+ * bis zu dieser Stufe gesetzt haben. Gefoldete Spieler zahlen ein, gewinnen
+ * aber nichts.
+ *
+ * Die Plätze werden wie beim {@link Showdown} als Bit-Maske angegeben, die
+ * Ergebnisse in Arrays des Aufrufers geschrieben. Auch für die Stufen gibt
+ * der Aufrufer ein Array mit, so dass beim Auszahlen nichts allokiert wird.
+ */
+public final class SeitenPots {
+
+    private SeitenPots() {
+        /* Nur statische Methoden */
+    }
+
+    /**
+     * @param einsaetze die Chips, die jeder Platz in dieser Hand gesetzt hat
+     * @param beteiligt die Plätze, die noch in der Hand sind, als Bit-Maske
+     * @param totesGeld Chips ohne Besitzer (z.B. von Spielern, die den Tisch
+     *            verlassen haben), die in den Hauptpot gehen
+     * @param potHoehen die Höhe jedes Pots, beginnend mit dem Hauptpot
+     * @param berechtigte die berechtigten Plätze jedes Pots als Bit-Maske
+     * @param stufen Arbeitsbereich so groß wie einsaetze, der Inhalt wird
+     *            überschrieben
+     * @return die Anzahl der Pots
+     */
+    public static int berechne(int[] einsaetze, int beteiligt, int totesGeld,
+            int[] potHoehen, int[] berechtigte, int[] stufen) {
+
+        int anzahlStufen = 0;
+
+        for (int platz = 0; platz < einsaetze.length; platz++)
+            if ((beteiligt & 1 << platz) != 0 && einsaetze[platz] > 0)
+                stufen[anzahlStufen++] = einsaetze[platz];
+
+        Arrays.sort(stufen, 0, anzahlStufen);
+
+        int anzahlPots = 0;
+        int vorherigeStufe = 0;
+
+        for (int i = 0; i < anzahlStufen; i++) {
+
+            int stufe = stufen[i];
+
+            /* Gleiche Einsätze ergeben keinen neuen Pot. */
+            if (stufe == vorherigeStufe)
+                continue;
+
+            int hoehe = 0;
+            int berechtigt = 0;
+
+            for (int platz = 0; platz < einsaetze.length; platz++) {
+
+                int einsatz = einsaetze[platz];
+
+                hoehe += Math.min(einsatz, stufe) - Math.min(einsatz, vorherigeStufe);
+
+                if ((beteiligt & 1 << platz) != 0 && einsatz >= stufe)
+                    berechtigt |= 1 << platz;
+            }
+
+            potHoehen[anzahlPots] = hoehe;
+            berechtigte[anzahlPots] = berechtigt;
+            anzahlPots++;
+
+            vorherigeStufe = stufe;
+        }
+
+        if (anzahlPots == 0) {
+
+            /*
+             * Kein beteiligter Platz hat gesetzt. Totes Geld und die Einsätze
+             * gefoldeter Spieler bilden dann allein den Hauptpot, für den
+             * alle beteiligten Plätze berechtigt sind.
+             */
+            int hoehe = totesGeld;
+
+            for (int einsatz : einsaetze)
+                hoehe += einsatz;
+
+            if (hoehe == 0 || beteiligt == 0)
+                return 0;
+
+            potHoehen[0] = hoehe;
+            berechtigte[0] = beteiligt;
+
+            return 1;
+        }
+
+        potHoehen[0] += totesGeld;
+
+        /*
+         * Was gefoldete Spieler über die höchste Stufe hinaus gesetzt haben,
+         * geht in den letzten Pot.
+         */
+        for (int einsatz : einsaetze)
+            if (einsatz > vorherigeStufe)
+                potHoehen[anzahlPots - 1] += einsatz - vorherigeStufe;
+
+        return anzahlPots;
+    }
+}
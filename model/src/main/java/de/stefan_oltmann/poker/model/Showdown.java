@@ -0,0 +1,113 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model;
+
+/**
+ * Der Showdown verteilt einen Pot auf die beste(n) Hand/Hände. Die Hände
+ * werden pro Platz als Rang des {@link de.stefan_oltmann.poker.model.hand.HandBewerter}
+ * übergeben, wodurch ein einziger Durchlauf mit int-Vergleichen genügt und
+ * Gleichstände exakt erkannt werden.
+ *
+ * Lässt sich der Pot nicht glatt teilen, erhalten die Gewinner die übrigen
+ * Chips einzeln, beginnend mit dem ersten Gewinner links vom Dealer. Es
+ * werden keine Objekte erzeugt; die Gewinne werden in ein Array des
+ * Aufrufers addiert.
+ */
+public final class Showdown {
+
+    /** Rang für Plätze, die nicht am Showdown teilnehmen */
+    public static final int KEIN_RANG = -1;
+
+    /** Alle Plätze sind berechtigt. */
+    public static final int ALLE_PLAETZE = -1;
+
+    private Showdown() {
+        /* Nur statische Methoden */
+    }
+
+    /**
+     * Ermittelt die Gewinner unter allen Plätzen mit einem Rang und
+     * verteilt den Pot auf sie.
+     *
+     * @param pot die zu verteilenden Chips
+     * @param raenge der Rang pro Platz oder {@link #KEIN_RANG}
+     * @param dealerPlatz der Platz des Dealers
+     * @param gewinne die Gewinne pro Platz, zu denen addiert wird
+     * @return die Plätze der Gewinner als Bit-Maske
+     */
+    public static int verteile(int pot, int[] raenge, int dealerPlatz, int[] gewinne) {
+        return verteile(pot, raenge, ALLE_PLAETZE, dealerPlatz, gewinne);
+    }
+
+    /**
+     * Wie {@link #verteile(int, int[], int, int[])}, aber nur unter den
+     * Plätzen, die für diesen Pot berechtigt sind (z.B. bei
+     * {@link SeitenPots}).
+     *
+     * @param berechtigte die berechtigten Plätze als Bit-Maske
+     */
+    public static int verteile(int pot, int[] raenge, int berechtigte, int dealerPlatz, int[] gewinne) {
+
+        int besterRang = KEIN_RANG;
+        int gewinner = 0;
+
+        for (int platz = 0; platz < raenge.length; platz++) {
+
+            int rang = raenge[platz];
+
+            if (rang == KEIN_RANG || (berechtigte & 1 << platz) == 0)
+                continue;
+
+            if (rang > besterRang) {
+                besterRang = rang;
+                gewinner = 1 << platz;
+            } else if (rang == besterRang) {
+                gewinner |= 1 << platz;
+            }
+        }
+
+        if (gewinner == 0)
+            return 0;
+
+        int anzahlGewinner = Integer.bitCount(gewinner);
+
+        int anteil = pot / anzahlGewinner;
+        int restChips = pot % anzahlGewinner;
+
+        for (int platz = 0; platz < raenge.length; platz++)
+            if ((gewinner & 1 << platz) != 0)
+                gewinne[platz] += anteil;
+
+        /* Übrige Chips im Uhrzeigersinn ab dem Platz links vom Dealer */
+        for (int i = 1; restChips > 0; i++) {
+
+            int platz = (dealerPlatz + i) % raenge.length;
+
+            if ((gewinner & 1 << platz) != 0) {
+                gewinne[platz]++;
+                restChips--;
+            }
+        }
+
+        return gewinner;
+    }
+}
@@ -0,0 +1,205 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Der EquityCache merkt sich die Ergebnisse des {@link EquityCalculator},
+ * damit häufige Situationen an vielen Tischen nur einmal berechnet werden.
+ * Als Schlüssel dient die kanonische Form aus der {@link FarbSymmetrie},
+ * sodass auch Situationen mit vertauschten Farben getroffen werden.
+ *
+ * Der Cache ist in Segmente aufgeteilt, die jeweils eine eigene LRU-Liste
+ * haben und einzeln gesperrt werden. Ist ein Segment voll, fliegt dessen am
+ * längsten nicht benutzter Eintrag heraus.
+ */
+public class EquityCache {
+
+    public static final int STANDARD_MAX_EINTRAEGE = 100000;
+
+    private static final int ANZAHL_SEGMENTE = 16;
+
+    private final EquityCalculator calculator;
+
+    private final Segment[] segmente = new Segment[ANZAHL_SEGMENTE];
+
+    private final LongAdder treffer = new LongAdder();
+    private final LongAdder fehlschlaege = new LongAdder();
+
+    public EquityCache(EquityCalculator calculator) {
+        this(calculator, STANDARD_MAX_EINTRAEGE);
+    }
+
+    public EquityCache(EquityCalculator calculator, int maxEintraege) {
+
+        this.calculator = calculator;
+
+        int maxEintraegeProSegment = Math.max(1, maxEintraege / ANZAHL_SEGMENTE);
+
+        for (int i = 0; i < ANZAHL_SEGMENTE; i++)
+            segmente[i] = new Segment(maxEintraegeProSegment);
+    }
+
+    /**
+     * Liefert das Ergebnis aus dem Cache oder berechnet es. Die Reihenfolge
+     * der Spieler im Ergebnis entspricht immer der Reihenfolge der Hole Cards.
+     */
+    public EquityErgebnis berechne(long[] holeCards, long board) {
+
+        EquityCalculator.pruefe(holeCards, board);
+
+        Schluessel schluessel = new Schluessel(FarbSymmetrie.kanonisiere(holeCards, board));
+
+        Segment segment = segmente[(schluessel.hashCode() & 0x7FFFFFFF) % ANZAHL_SEGMENTE];
+
+        EquityErgebnis ergebnis;
+
+        synchronized (segment) {
+            ergebnis = segment.get(schluessel);
+        }
+
+        if (ergebnis != null) {
+            treffer.increment();
+            return ergebnis;
+        }
+
+        fehlschlaege.increment();
+
+        /*
+         * Berechnet wird außerhalb der Sperre. Kommt ein anderer Thread mit
+         * derselben Situation dazwischen, wird sie eben doppelt berechnet.
+         */
+        long[] kanonisch = schluessel.masken;
+
+        ergebnis = calculator.berechne(Arrays.copyOfRange(kanonisch, 1, kanonisch.length), kanonisch[0]);
+
+        synchronized (segment) {
+            segment.put(schluessel, ergebnis);
+        }
+
+        return ergebnis;
+    }
+
+    /*
+     * Statistik
+     */
+
+    public long getTreffer() {
+        return treffer.sum();
+    }
+
+    public long getFehlschlaege() {
+        return fehlschlaege.sum();
+    }
+
+    public double getTrefferquote() {
+
+        long anzahlTreffer = getTreffer();
+        long anfragen = anzahlTreffer + getFehlschlaege();
+
+        if (anfragen == 0)
+            return 0;
+
+        return (double) anzahlTreffer / anfragen;
+    }
+
+    public int getAnzahlEintraege() {
+
+        int anzahl = 0;
+
+        for (Segment segment : segmente) {
+            synchronized (segment) {
+                anzahl += segment.size();
+            }
+        }
+
+        return anzahl;
+    }
+
+    public void leeren() {
+
+        for (Segment segment : segmente) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EquityCache [eintraege=" + getAnzahlEintraege() + ", treffer=" + getTreffer()
+                + ", fehlschlaege=" + getFehlschlaege() + "]";
+    }
+
+    /**
+     * Eine LinkedHashMap in Zugriffs-Reihenfolge, die beim Überlaufen den
+     * ältesten Eintrag entfernt.
+     */
+    private static class Segment extends LinkedHashMap<Schluessel, EquityErgebnis> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEintraege;
+
+        Segment(int maxEintraege) {
+            super(16, 0.75f, true);
+            this.maxEintraege = maxEintraege;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Schluessel, EquityErgebnis> eldest) {
+            return size() > maxEintraege;
+        }
+    }
+
+    private static final class Schluessel {
+
+        private final long[] masken;
+        private final int hashCode;
+
+        Schluessel(long[] masken) {
+            this.masken = masken;
+            this.hashCode = Arrays.hashCode(masken);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj)
+                return true;
+
+            if (!(obj instanceof Schluessel))
+                return false;
+
+            return Arrays.equals(masken, ((Schluessel) obj).masken);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import de.stefan_oltmann.poker.model.SpielImpl;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+/**
+ * Der EquityCalculator berechnet, welchen Anteil am Pot jeder Spieler zu
+ * erwarten hat, wenn die fehlenden Karten des Boards noch ausgeteilt werden.
+ *
+ * Sind höchstens {@link #STANDARD_MAX_EXAKTE_BOARDS} Boards möglich (z.B. am
+ * Flop oder Turn), werden alle Boards exakt durchgezählt. Die erste fehlende
+ * Karte wird dabei auf die Aufgaben im {@link ForkJoinPool} verteilt.
+ *
+ * Ansonsten werden die fehlenden Karten per Monte-Carlo gezogen: Pro Durchlauf werden
+ * nur so viele Karten des Rest-Decks gemischt, wie auf dem Board fehlen. Die
+ * Durchläufe werden in Runden auf den {@link ForkJoinPool} verteilt, wobei
+ * jede Aufgabe einen eigenen, abgespaltenen {@link SplittableRandom} nutzt.
+ * Nach jeder Runde wird geprüft, ob der Standardfehler klein genug, das
+ * Zeit-Budget aufgebraucht oder die maximale Anzahl Durchläufe erreicht ist.
+ */
+public class EquityCalculator {
+
+    public static final long STANDARD_MAX_DURCHLAEUFE = 2000000;
+
+    /* Ein Standardfehler von 0,05 % */
+    public static final double STANDARD_ZIEL_STANDARDFEHLER = 0.0005;
+
+    public static final long STANDARD_MAX_MILLIS = 250;
+
+    /* Heads-Up am Flop sind es 990, preflop 1.712.304 Boards. */
+    public static final long STANDARD_MAX_EXAKTE_BOARDS = 100000;
+
+    public static final int BOARD_KARTEN = 5;
+
+    /* Darunter lohnt sich das Verteilen der Aufzählung nicht. */
+    static final long MIN_PARALLELE_BOARDS = 2000;
+
+    static final int DURCHLAEUFE_PRO_AUFGABE = 10000;
+
+    private final ForkJoinPool pool;
+
+    private final long maxDurchlaeufe;
+    private final double zielStandardfehler;
+    private final long maxMillis;
+
+    private final long maxExakteBoards;
+
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool(), STANDARD_MAX_DURCHLAEUFE,
+                STANDARD_ZIEL_STANDARDFEHLER, STANDARD_MAX_MILLIS, STANDARD_MAX_EXAKTE_BOARDS);
+    }
+
+    public EquityCalculator(ForkJoinPool pool, long maxDurchlaeufe,
+            double zielStandardfehler, long maxMillis, long maxExakteBoards) {
+
+        this.pool = pool;
+        this.maxDurchlaeufe = maxDurchlaeufe;
+        this.zielStandardfehler = zielStandardfehler;
+        this.maxMillis = maxMillis;
+        this.maxExakteBoards = maxExakteBoards;
+    }
+
+    public EquityErgebnis berechne(List<? extends Collection<Karte>> holeCards,
+            Collection<Karte> board) {
+
+        long[] masken = new long[holeCards.size()];
+
+        for (int i = 0; i < masken.length; i++)
+            masken[i] = KartenMaske.von(holeCards.get(i));
+
+        return berechne(masken, KartenMaske.von(board));
+    }
+
+    public EquityErgebnis berechne(long[] holeCards, long board) {
+        return berechne(holeCards, board, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Wie {@link #berechne(long[], long)}, aber mit festem Seed. Die Anzahl
+     * der Durchläufe hängt trotzdem vom Zeit-Budget ab.
+     */
+    public EquityErgebnis berechne(long[] holeCards, long board, long seed) {
+
+        pruefe(holeCards, board);
+
+        int[] restDeck = getRestDeck(holeCards, board);
+
+        int fehlend = BOARD_KARTEN - KartenMaske.getAnzahl(board);
+
+        if (getAnzahlBoards(restDeck.length, fehlend) <= maxExakteBoards)
+            return berechneExakt(holeCards, board, restDeck, fehlend);
+
+        return berechneMonteCarlo(holeCards, board, restDeck, fehlend, seed);
+    }
+
+    /**
+     * Zählt unabhängig von der Anzahl alle möglichen Boards durch.
+     */
+    public EquityErgebnis berechneExakt(long[] holeCards, long board) {
+
+        pruefe(holeCards, board);
+
+        return berechneExakt(holeCards, board, getRestDeck(holeCards, board),
+                BOARD_KARTEN - KartenMaske.getAnzahl(board));
+    }
+
+    private EquityErgebnis berechneExakt(long[] holeCards, long board, int[] restDeck, int fehlend) {
+
+        long start = System.nanoTime();
+
+        EquityZaehler zaehler;
+
+        /* Das Board ist vollständig, es gibt nur ein Ergebnis. */
+        if (fehlend == 0) {
+
+            zaehler = new EquityZaehler(holeCards.length);
+            zaehler.werte(holeCards, board);
+
+        } else {
+
+            ExakteAufgabe aufgabe = new ExakteAufgabe(holeCards, board, restDeck, fehlend,
+                    0, restDeck.length - fehlend + 1);
+
+            if (getAnzahlBoards(restDeck.length, fehlend) < MIN_PARALLELE_BOARDS)
+                zaehler = aufgabe.compute();
+            else
+                zaehler = pool.invoke(aufgabe);
+        }
+
+        return zaehler.erzeugeErgebnis(true, System.nanoTime() - start);
+    }
+
+    private EquityErgebnis berechneMonteCarlo(long[] holeCards, long board, int[] restDeck,
+            int fehlend, long seed) {
+
+        long start = System.nanoTime();
+
+        EquityZaehler gesamt = new EquityZaehler(holeCards.length);
+
+        SplittableRandom random = new SplittableRandom(seed);
+
+        long ende = start + maxMillis * 1000000;
+
+        int aufgabenProRunde = pool.getParallelism();
+
+        do {
+
+            List<MonteCarloAufgabe> aufgaben = new ArrayList<MonteCarloAufgabe>(aufgabenProRunde);
+
+            long offen = maxDurchlaeufe - gesamt.durchlaeufe;
+
+            for (int i = 0; i < aufgabenProRunde && offen > 0; i++) {
+
+                int durchlaeufe = (int) Math.min(DURCHLAEUFE_PRO_AUFGABE, offen);
+
+                aufgaben.add(new MonteCarloAufgabe(holeCards, board, restDeck, fehlend,
+                        durchlaeufe, random.split()));
+
+                offen -= durchlaeufe;
+            }
+
+            for (MonteCarloAufgabe aufgabe : aufgaben)
+                pool.execute(aufgabe);
+
+            for (MonteCarloAufgabe aufgabe : aufgaben)
+                gesamt.addiere(aufgabe.join());
+
+        } while (gesamt.durchlaeufe < maxDurchlaeufe
+                && System.nanoTime() < ende
+                && gesamt.getStandardfehler() > zielStandardfehler);
+
+        return gesamt.erzeugeErgebnis(false, System.nanoTime() - start);
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    static void pruefe(long[] holeCards, long board) {
+
+        if (holeCards.length < SpielImpl.MIN_SPIELER || holeCards.length > SpielImpl.MAX_SPIELER)
+            throw new IllegalArgumentException("Es müssen " + SpielImpl.MIN_SPIELER + " bis "
+                    + SpielImpl.MAX_SPIELER + " Spieler sein: " + holeCards.length);
+
+        int boardKarten = KartenMaske.getAnzahl(board);
+
+        if (boardKarten > BOARD_KARTEN || boardKarten == 1 || boardKarten == 2)
+            throw new IllegalArgumentException("Ungültiges Board: " + KartenMaske.toString(board));
+
+        long vergeben = board;
+
+        for (long holeCard : holeCards) {
+
+            if (KartenMaske.getAnzahl(holeCard) != 2)
+                throw new IllegalArgumentException("Jeder Spieler braucht zwei Hole Cards: "
+                        + KartenMaske.toString(holeCard));
+
+            if ((vergeben & holeCard) != 0)
+                throw new IllegalArgumentException("Karte doppelt vergeben: "
+                        + KartenMaske.toString(vergeben & holeCard));
+
+            vergeben |= holeCard;
+        }
+    }
+
+    /**
+     * Die Anzahl der Möglichkeiten, k aus n Karten zu ziehen.
+     */
+    static long getAnzahlBoards(int n, int k) {
+
+        long anzahl = 1;
+
+        for (int i = 0; i < k; i++)
+            anzahl = anzahl * (n - i) / (i + 1);
+
+        return anzahl;
+    }
+
+    /**
+     * Die Bit-Indizes aller Karten, die noch nicht vergeben sind.
+     */
+    static int[] getRestDeck(long[] holeCards, long board) {
+
+        long rest = KartenMaske.ALLE & ~board;
+
+        for (long holeCard : holeCards)
+            rest &= ~holeCard;
+
+        int[] restDeck = new int[KartenMaske.getAnzahl(rest)];
+
+        for (int i = 0; rest != 0; rest &= rest - 1, i++)
+            restDeck[i] = Long.numberOfTrailingZeros(rest);
+
+        return restDeck;
+    }
+
+    /**
+     * Spielt eine feste Anzahl Boards mit eigenem Zufallsgenerator und
+     * eigener Kopie des Rest-Decks durch.
+     */
+    private static class MonteCarloAufgabe extends RecursiveTask<EquityZaehler> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] holeCards;
+        private final long board;
+        private final int[] restDeck;
+        private final int fehlend;
+        private final int durchlaeufe;
+        private final SplittableRandom random;
+
+        MonteCarloAufgabe(long[] holeCards, long board, int[] restDeck, int fehlend,
+                int durchlaeufe, SplittableRandom random) {
+
+            this.holeCards = holeCards;
+            this.board = board;
+            this.restDeck = restDeck.clone();
+            this.fehlend = fehlend;
+            this.durchlaeufe = durchlaeufe;
+            this.random = random;
+        }
+
+        @Override
+        protected EquityZaehler compute() {
+
+            EquityZaehler zaehler = new EquityZaehler(holeCards.length);
+
+            int anzahl = restDeck.length;
+
+            for (int d = 0; d < durchlaeufe; d++) {
+
+                long vollesBoard = board;
+
+                /* Fisher-Yates, aber nur für die fehlenden Karten */
+                for (int i = 0; i < fehlend; i++) {
+
+                    int j = i + random.nextInt(anzahl - i);
+
+                    int karte = restDeck[j];
+                    restDeck[j] = restDeck[i];
+                    restDeck[i] = karte;
+
+                    vollesBoard |= 1L << karte;
+                }
+
+                zaehler.werte(holeCards, vollesBoard);
+            }
+
+            return zaehler;
+        }
+    }
+
+    /**
+     * Zählt alle Boards auf, deren erste fehlende Karte im Bereich [von, bis)
+     * des Rest-Decks liegt. Große Bereiche werden halbiert, bis jede Aufgabe
+     * nur noch eine erste Karte hat.
+     */
+    private static class ExakteAufgabe extends RecursiveTask<EquityZaehler> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] holeCards;
+        private final long board;
+        private final int[] restDeck;
+        private final int fehlend;
+        private final int von;
+        private final int bis;
+
+        ExakteAufgabe(long[] holeCards, long board, int[] restDeck, int fehlend,
+                int von, int bis) {
+
+            this.holeCards = holeCards;
+            this.board = board;
+            this.restDeck = restDeck;
+            this.fehlend = fehlend;
+            this.von = von;
+            this.bis = bis;
+        }
+
+        @Override
+        protected EquityZaehler compute() {
+
+            if (bis - von > 1 && inForkJoinPool()) {
+
+                int mitte = (von + bis) >>> 1;
+
+                ExakteAufgabe links = new ExakteAufgabe(holeCards, board, restDeck, fehlend, von, mitte);
+                ExakteAufgabe rechts = new ExakteAufgabe(holeCards, board, restDeck, fehlend, mitte, bis);
+
+                links.fork();
+
+                EquityZaehler zaehler = rechts.compute();
+                zaehler.addiere(links.join());
+
+                return zaehler;
+            }
+
+            EquityZaehler zaehler = new EquityZaehler(holeCards.length);
+
+            for (int i = von; i < bis; i++)
+                zaehleAuf(zaehler, board | 1L << restDeck[i], i + 1, fehlend - 1);
+
+            return zaehler;
+        }
+
+        private void zaehleAuf(EquityZaehler zaehler, long teilBoard, int ab, int fehlend) {
+
+            if (fehlend == 0) {
+                zaehler.werte(holeCards, teilBoard);
+                return;
+            }
+
+            for (int i = ab; i <= restDeck.length - fehlend; i++)
+                zaehleAuf(zaehler, teilBoard | 1L << restDeck[i], i + 1, fehlend - 1);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.Arrays;
+
+/**
+ * Das Ergebnis einer Equity-Berechnung. Die Spieler haben dieselbe
+ * Reihenfolge wie die übergebenen Hole Cards.
+ */
+public class EquityErgebnis {
+
+    private final long durchlaeufe;
+
+    private final long[] siege;
+    private final long[] unentschieden;
+
+    private final double[] equity;
+
+    /* false, falls die Werte mit Monte-Carlo geschätzt wurden */
+    private final boolean exakt;
+
+    private final long dauerNanos;
+
+    EquityErgebnis(long durchlaeufe, long[] siege, long[] unentschieden,
+            double[] equity, boolean exakt, long dauerNanos) {
+
+        this.durchlaeufe = durchlaeufe;
+        this.siege = siege;
+        this.unentschieden = unentschieden;
+        this.equity = equity;
+        this.exakt = exakt;
+        this.dauerNanos = dauerNanos;
+    }
+
+    public int getAnzahlSpieler() {
+        return equity.length;
+    }
+
+    public long getDurchlaeufe() {
+        return durchlaeufe;
+    }
+
+    /**
+     * Die Wahrscheinlichkeit, den Pot allein zu gewinnen.
+     */
+    public double getSiegWahrscheinlichkeit(int spieler) {
+        return (double) siege[spieler] / durchlaeufe;
+    }
+
+    /**
+     * Die Wahrscheinlichkeit, den Pot mit anderen zu teilen.
+     */
+    public double getUnentschiedenWahrscheinlichkeit(int spieler) {
+        return (double) unentschieden[spieler] / durchlaeufe;
+    }
+
+    /**
+     * Der erwartete Anteil am Pot, bei dem geteilte Pots anteilig zählen.
+     */
+    public double getEquity(int spieler) {
+        return equity[spieler];
+    }
+
+    public boolean isExakt() {
+        return exakt;
+    }
+
+    public long getDauerNanos() {
+        return dauerNanos;
+    }
+
+    public double getDurchlaeufeProSekunde() {
+
+        if (dauerNanos == 0)
+            return 0;
+
+        return durchlaeufe * 1E9 / dauerNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "EquityErgebnis [durchlaeufe=" + durchlaeufe + ", equity="
+                + Arrays.toString(equity) + ", exakt=" + exakt + "]";
+    }
+}
@@ -0,0 +1,137 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import de.stefan_oltmann.poker.model.hand.HandBewerter;
+
+/**
+ * Zählt für jeden Spieler Siege, Unentschieden und den Anteil am Pot über
+ * beliebig viele Boards. Jeder Thread hat seinen eigenen Zähler, die am Ende
+ * mit {@link #addiere(EquityZaehler)} zusammengeführt werden.
+ */
+final class EquityZaehler {
+
+    final long[] siege;
+    final long[] unentschieden;
+
+    /* Summe der Pot-Anteile (1 / Anzahl Gewinner) und ihrer Quadrate */
+    final double[] anteile;
+    final double[] anteileQuadrat;
+
+    long durchlaeufe;
+
+    private final int[] raenge;
+
+    EquityZaehler(int anzahlSpieler) {
+
+        this.siege = new long[anzahlSpieler];
+        this.unentschieden = new long[anzahlSpieler];
+        this.anteile = new double[anzahlSpieler];
+        this.anteileQuadrat = new double[anzahlSpieler];
+        this.raenge = new int[anzahlSpieler];
+    }
+
+    /**
+     * Bewertet ein vollständiges Board für alle Spieler.
+     */
+    void werte(long[] holeCards, long board) {
+
+        int besterRang = 0;
+        int anzahlGewinner = 0;
+
+        for (int i = 0; i < holeCards.length; i++) {
+
+            int rang = HandBewerter.bewerte(holeCards[i] | board);
+
+            raenge[i] = rang;
+
+            if (rang > besterRang) {
+                besterRang = rang;
+                anzahlGewinner = 1;
+            } else if (rang == besterRang) {
+                anzahlGewinner++;
+            }
+        }
+
+        double anteil = 1.0 / anzahlGewinner;
+
+        for (int i = 0; i < holeCards.length; i++) {
+
+            if (raenge[i] != besterRang)
+                continue;
+
+            if (anzahlGewinner == 1)
+                siege[i]++;
+            else
+                unentschieden[i]++;
+
+            anteile[i] += anteil;
+            anteileQuadrat[i] += anteil * anteil;
+        }
+
+        durchlaeufe++;
+    }
+
+    void addiere(EquityZaehler zaehler) {
+
+        for (int i = 0; i < siege.length; i++) {
+            siege[i] += zaehler.siege[i];
+            unentschieden[i] += zaehler.unentschieden[i];
+            anteile[i] += zaehler.anteile[i];
+            anteileQuadrat[i] += zaehler.anteileQuadrat[i];
+        }
+
+        durchlaeufe += zaehler.durchlaeufe;
+    }
+
+    /**
+     * Der größte Standardfehler der Equity über alle Spieler.
+     */
+    double getStandardfehler() {
+
+        if (durchlaeufe < 2)
+            return Double.POSITIVE_INFINITY;
+
+        double maximum = 0;
+
+        for (int i = 0; i < anteile.length; i++) {
+
+            double mittelwert = anteile[i] / durchlaeufe;
+            double varianz = anteileQuadrat[i] / durchlaeufe - mittelwert * mittelwert;
+
+            maximum = Math.max(maximum, Math.sqrt(Math.max(varianz, 0) / durchlaeufe));
+        }
+
+        return maximum;
+    }
+
+    EquityErgebnis erzeugeErgebnis(boolean exakt, long dauerNanos) {
+
+        double[] equity = new double[anteile.length];
+
+        for (int i = 0; i < equity.length; i++)
+            equity[i] = anteile[i] / durchlaeufe;
+
+        return new EquityErgebnis(durchlaeufe, siege.clone(), unentschieden.clone(),
+                equity, exakt, dauerNanos);
+    }
+}
@@ -0,0 +1,117 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.stefan_oltmann.poker.model.hand.Karte.Farbe;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+/**
+ * Beim Hold'em sind alle Farben gleichwertig. Zwei Situationen, die durch
+ * Vertauschen der Farben ineinander übergehen, haben daher dieselbe Equity.
+ * Die FarbSymmetrie bildet jede Situation auf einen eindeutigen Vertreter
+ * ab, indem sie unter allen 24 Vertauschungen der Farben die kleinste wählt.
+ */
+public final class FarbSymmetrie {
+
+    private static final int ANZAHL_FARBEN = Farbe.values().length;
+
+    /* Alle 24 Vertauschungen der vier Farben */
+    static final int[][] PERMUTATIONEN = erzeugePermutationen();
+
+    private FarbSymmetrie() {
+        /* Nur statische Methoden */
+    }
+
+    /**
+     * Liefert die kanonische Form einer Situation als Array, das mit dem
+     * Board beginnt, gefolgt von den Hole Cards in unveränderter Reihenfolge
+     * der Spieler. Verglichen wird lexikographisch in genau dieser
+     * Reihenfolge.
+     */
+    public static long[] kanonisiere(long[] holeCards, long board) {
+
+        long[] beste = null;
+        long[] kandidat = new long[holeCards.length + 1];
+
+        for (int[] permutation : PERMUTATIONEN) {
+
+            kandidat[0] = permutiere(board, permutation);
+
+            for (int i = 0; i < holeCards.length; i++)
+                kandidat[i + 1] = permutiere(holeCards[i], permutation);
+
+            if (beste == null || istKleiner(kandidat, beste)) {
+
+                if (beste == null)
+                    beste = new long[kandidat.length];
+
+                System.arraycopy(kandidat, 0, beste, 0, kandidat.length);
+            }
+        }
+
+        return beste;
+    }
+
+    /**
+     * Vertauscht die Farben der Maske: Die Karten der Farbe i erhalten die
+     * Farbe permutation[i].
+     */
+    public static long permutiere(long maske, int[] permutation) {
+
+        long ergebnis = KartenMaske.LEER;
+
+        for (int farbe = 0; farbe < ANZAHL_FARBEN; farbe++)
+            ergebnis |= (maske >>> (farbe * 16) & KartenMaske.WERT_BITS) << (permutation[farbe] * 16);
+
+        return ergebnis;
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    private static boolean istKleiner(long[] masken1, long[] masken2) {
+
+        for (int i = 0; i < masken1.length; i++)
+            if (masken1[i] != masken2[i])
+                return masken1[i] < masken2[i];
+
+        return false;
+    }
+
+    private static int[][] erzeugePermutationen() {
+
+        List<int[]> permutationen = new ArrayList<int[]>();
+
+        for (int a = 0; a < ANZAHL_FARBEN; a++)
+            for (int b = 0; b < ANZAHL_FARBEN; b++)
+                for (int c = 0; c < ANZAHL_FARBEN; c++)
+                    for (int d = 0; d < ANZAHL_FARBEN; d++)
+                        if (a != b && a != c && a != d && b != c && b != d && c != d)
+                            permutationen.add(new int[] { a, b, c, d });
+
+        return permutationen.toArray(new int[permutationen.size()][]);
+    }
+}
@@ -0,0 +1,300 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenCodec;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+/**
+ * Die PreflopTabelle enthält die Heads-Up-Equity aller 169 Starthände
+ * gegeneinander. Eine Starthand ist dabei eine Klasse wie "AKs" (suited),
+ * "AKo" (offsuit) oder "QQ". Der Wert ist der Mittelwert über alle
+ * Farb-Kombinationen der beiden Klassen, die sich nicht überschneiden.
+ *
+ * Die Klassen sind wie die übliche 13x13-Matrix angeordnet: Die Zeile ist
+ * der höhere, die Spalte der niedrigere Wert (Ass = 0). Paare liegen auf der
+ * Diagonalen, suited Hände oberhalb und offsuit Hände unterhalb davon.
+ *
+ * Die Tabelle wird mit {@link #main(String[])} exakt berechnet und als
+ * Ressource {@link #RESSOURCE} ausgeliefert. Sie wird erst beim ersten
+ * Zugriff geladen.
+ */
+public final class PreflopTabelle {
+
+    public static final int ANZAHL_KLASSEN = 169;
+
+    public static final String RESSOURCE = "preflop_equity.bin";
+
+    private static final int MAGIC = 0x504B5046;
+    private static final int VERSION = 1;
+
+    /* Die Equity wird in 16 Bit gespeichert. */
+    private static final double SKALIERUNG = 65535;
+
+    private static final int ANZAHL_WERTE = 13;
+
+    private static final String WERT_ZEICHEN = "AKQJT98765432";
+
+    private PreflopTabelle() {
+        /* Nur statische Methoden */
+    }
+
+    /*
+     * Abfragen
+     */
+
+    /**
+     * Die Equity der ersten Starthand gegen die zweite.
+     */
+    public static double getEquity(int klasse1, int klasse2) {
+        return Tabelle.EQUITY[klasse1 * ANZAHL_KLASSEN + klasse2] / SKALIERUNG;
+    }
+
+    public static double getEquity(long holeCards1, long holeCards2) {
+        return getEquity(getKlasse(holeCards1), getKlasse(holeCards2));
+    }
+
+    /*
+     * Klassen
+     */
+
+    public static int getKlasse(Karte karte1, Karte karte2) {
+
+        int hoch = Math.min(karte1.wert.ordinal(), karte2.wert.ordinal());
+        int niedrig = Math.max(karte1.wert.ordinal(), karte2.wert.ordinal());
+
+        if (karte1.farbe == karte2.farbe)
+            return hoch * ANZAHL_WERTE + niedrig;
+
+        return niedrig * ANZAHL_WERTE + hoch;
+    }
+
+    public static int getKlasse(long holeCards) {
+
+        if (KartenMaske.getAnzahl(holeCards) != 2)
+            throw new IllegalArgumentException("Eine Starthand hat zwei Karten: "
+                    + KartenMaske.toString(holeCards));
+
+        /* Direkt über die Bit-Indizes, ohne eine Liste zu erzeugen */
+        int index1 = KartenCodec.getIndexVonBit(Long.numberOfTrailingZeros(holeCards));
+        int index2 = KartenCodec.getIndexVonBit(63 - Long.numberOfLeadingZeros(holeCards));
+
+        return getKlasse(index1, index2);
+    }
+
+    private static int getKlasse(int index1, int index2) {
+
+        /* Der Rang ist aufsteigend (Ass = 12), die Klassen zählen ab dem Ass. */
+        int hoch = ANZAHL_WERTE - 1 - Math.max(KartenCodec.getRang(index1), KartenCodec.getRang(index2));
+        int niedrig = ANZAHL_WERTE - 1 - Math.min(KartenCodec.getRang(index1), KartenCodec.getRang(index2));
+
+        if (KartenCodec.getFarbe(index1) == KartenCodec.getFarbe(index2))
+            return hoch * ANZAHL_WERTE + niedrig;
+
+        return niedrig * ANZAHL_WERTE + hoch;
+    }
+
+    /**
+     * Die übliche Schreibweise der Klasse, z.B. "AKs", "T9o" oder "QQ".
+     */
+    public static String getBezeichnung(int klasse) {
+
+        int zeile = klasse / ANZAHL_WERTE;
+        int spalte = klasse % ANZAHL_WERTE;
+
+        if (zeile == spalte)
+            return "" + WERT_ZEICHEN.charAt(zeile) + WERT_ZEICHEN.charAt(spalte);
+
+        if (zeile < spalte)
+            return "" + WERT_ZEICHEN.charAt(zeile) + WERT_ZEICHEN.charAt(spalte) + "s";
+
+        return "" + WERT_ZEICHEN.charAt(spalte) + WERT_ZEICHEN.charAt(zeile) + "o";
+    }
+
+    /**
+     * Alle Farb-Kombinationen der Klasse als KartenMaske.
+     */
+    public static List<Long> getKombinationen(int klasse) {
+
+        List<Long> kombinationen = new ArrayList<Long>();
+
+        for (int i = 0; i < KartenCodec.ANZAHL_KARTEN; i++)
+            for (int j = i + 1; j < KartenCodec.ANZAHL_KARTEN; j++)
+                if (getKlasse(i, j) == klasse)
+                    kombinationen.add(KartenCodec.getMaske(i) | KartenCodec.getMaske(j));
+
+        return kombinationen;
+    }
+
+    /*
+     * Erzeugung
+     */
+
+    /**
+     * Berechnet alle Paarungen exakt über die 1.712.304 möglichen Boards.
+     * Da jede Klasse unter Vertauschung der Farben gleich ist, wird für die
+     * erste Klasse nur eine Kombination betrachtet und für die zweite nur eine
+     * pro Farb-Muster relativ zur ersten.
+     */
+    public static void erzeuge(File datei, EquityCalculator calculator) throws IOException {
+
+        char[] equity = new char[ANZAHL_KLASSEN * ANZAHL_KLASSEN];
+
+        for (int klasse1 = 0; klasse1 < ANZAHL_KLASSEN; klasse1++) {
+
+            long holeCards1 = getKombinationen(klasse1).get(0);
+
+            /* Die Permutationen, die die erste Hand nicht verändern */
+            List<int[]> stabilisator = new ArrayList<int[]>();
+
+            for (int[] permutation : FarbSymmetrie.PERMUTATIONEN)
+                if (FarbSymmetrie.permutiere(holeCards1, permutation) == holeCards1)
+                    stabilisator.add(permutation);
+
+            /* Gleiche Klassen teilen sich im Mittel den Pot. */
+            equity[klasse1 * ANZAHL_KLASSEN + klasse1] = (char) Math.round(0.5 * SKALIERUNG);
+
+            for (int klasse2 = klasse1 + 1; klasse2 < ANZAHL_KLASSEN; klasse2++) {
+
+                Map<Long, Double> equityProMuster = new HashMap<Long, Double>();
+
+                double summe = 0;
+                int anzahl = 0;
+
+                for (long holeCards2 : getKombinationen(klasse2)) {
+
+                    if ((holeCards1 & holeCards2) != 0)
+                        continue;
+
+                    long muster = holeCards2;
+
+                    for (int[] permutation : stabilisator)
+                        muster = Math.min(muster, FarbSymmetrie.permutiere(holeCards2, permutation));
+
+                    Double wert = equityProMuster.get(muster);
+
+                    if (wert == null) {
+
+                        wert = calculator.berechneExakt(
+                                new long[] { holeCards1, holeCards2 }, KartenMaske.LEER).getEquity(0);
+
+                        equityProMuster.put(muster, wert);
+                    }
+
+                    summe += wert;
+                    anzahl++;
+                }
+
+                double wert = summe / anzahl;
+
+                equity[klasse1 * ANZAHL_KLASSEN + klasse2] = (char) Math.round(wert * SKALIERUNG);
+                equity[klasse2 * ANZAHL_KLASSEN + klasse1] = (char) Math.round((1 - wert) * SKALIERUNG);
+            }
+
+            System.out.println(getBezeichnung(klasse1) + " berechnet.");
+        }
+
+        File verzeichnis = datei.getAbsoluteFile().getParentFile();
+
+        if (verzeichnis != null && !verzeichnis.exists() && !verzeichnis.mkdirs())
+            throw new IOException("Verzeichnis " + verzeichnis + " kann nicht angelegt werden.");
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(datei)))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            for (char wert : equity)
+                out.writeChar(wert);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        File datei = new File(args.length > 0 ? args[0] : RESSOURCE);
+
+        long startTime = System.currentTimeMillis();
+
+        erzeuge(datei, new EquityCalculator());
+
+        long endTime = System.currentTimeMillis();
+
+        System.out.println("PreflopTabelle " + datei.getAbsolutePath()
+                + " erzeugt in " + (endTime - startTime) + "ms.");
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    static char[] lade() throws IOException {
+
+        InputStream inputStream = PreflopTabelle.class.getResourceAsStream(RESSOURCE);
+
+        if (inputStream == null)
+            throw new IOException("Ressource " + RESSOURCE + " nicht gefunden.");
+
+        try (DataInputStream in = new DataInputStream(inputStream)) {
+
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new IOException("Ressource " + RESSOURCE + " ist keine gültige PreflopTabelle.");
+
+            char[] equity = new char[ANZAHL_KLASSEN * ANZAHL_KLASSEN];
+
+            for (int i = 0; i < equity.length; i++)
+                equity[i] = in.readChar();
+
+            return equity;
+        }
+    }
+
+    /**
+     * Lädt die Tabelle beim ersten Zugriff auf {@link #EQUITY}.
+     */
+    private static final class Tabelle {
+
+        static final char[] EQUITY;
+
+        static {
+
+            try {
+                EQUITY = lade();
+            } catch (IOException e) {
+                throw new IllegalStateException("PreflopTabelle kann nicht geladen werden.", e);
+            }
+        }
+    }
+}
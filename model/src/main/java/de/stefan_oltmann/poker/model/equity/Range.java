@@ -0,0 +1,337 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenCodec;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+/**
+ * Eine Range ist eine gewichtete Menge von Hole Cards, die ein Spieler
+ * halten könnte. Sie wird in der üblichen Schreibweise angegeben, wobei die
+ * Teile durch Kommas getrennt werden:
+ *
+ * <pre>
+ * QQ        ein Paar (6 Kombinationen)
+ * QQ+       QQ, KK, AA
+ * 99-QQ     alle Paare von 99 bis QQ
+ * AKs, AKo  suited bzw. offsuit, AK steht für beide
+ * A9s+      A9s, ATs ... AKs
+ * 76s-54s   76s, 65s, 54s
+ * KQo-K9o   KQo, KJo, KTo, K9o
+ * AhKh      eine einzelne Kombination (Farben c, s, h, d)
+ * AKs:0.5   mit Gewicht, ansonsten 1
+ * </pre>
+ *
+ * Jede Kombination ist eine {@link KartenMaske} aus zwei Karten. Wird eine
+ * Kombination mehrfach angegeben, zählt das zuletzt angegebene Gewicht.
+ */
+public final class Range {
+
+    private static final String WERT_ZEICHEN = "AKQJT98765432";
+
+    /* In der Reihenfolge von Karte.Farbe */
+    private static final String FARB_ZEICHEN = "cshd";
+
+    private final long[] kombinationen;
+    private final double[] gewichte;
+
+    private Range(long[] kombinationen, double[] gewichte) {
+        this.kombinationen = kombinationen;
+        this.gewichte = gewichte;
+    }
+
+    public static Range von(long holeCards) {
+
+        if (KartenMaske.getAnzahl(holeCards) != 2)
+            throw new IllegalArgumentException("Eine Kombination hat zwei Karten: "
+                    + KartenMaske.toString(holeCards));
+
+        return new Range(new long[] { holeCards }, new double[] { 1 });
+    }
+
+    public static Range parse(String notation) {
+
+        Map<Long, Double> kombinationen = new LinkedHashMap<Long, Double>();
+
+        for (String teil : notation.split(",")) {
+
+            teil = teil.trim();
+
+            if (teil.isEmpty())
+                continue;
+
+            double gewicht = 1;
+
+            int doppelpunkt = teil.indexOf(':');
+
+            if (doppelpunkt >= 0) {
+
+                gewicht = parseGewicht(teil.substring(doppelpunkt + 1).trim(), notation);
+
+                teil = teil.substring(0, doppelpunkt).trim();
+            }
+
+            parseTeil(teil, gewicht, kombinationen, notation);
+        }
+
+        long[] masken = new long[kombinationen.size()];
+        double[] gewichte = new double[kombinationen.size()];
+
+        int i = 0;
+
+        for (Map.Entry<Long, Double> eintrag : kombinationen.entrySet()) {
+            masken[i] = eintrag.getKey();
+            gewichte[i] = eintrag.getValue();
+            i++;
+        }
+
+        return new Range(masken, gewichte);
+    }
+
+    /*
+     * Abfragen
+     */
+
+    public int getAnzahl() {
+        return kombinationen.length;
+    }
+
+    public long getKombination(int index) {
+        return kombinationen[index];
+    }
+
+    public double getGewicht(int index) {
+        return gewichte[index];
+    }
+
+    /**
+     * Liefert die Range ohne alle Kombinationen, die eine der Karten
+     * enthalten, z.B. weil sie auf dem Board liegen.
+     */
+    public Range ohne(long karten) {
+
+        int anzahl = 0;
+
+        for (long kombination : kombinationen)
+            if ((kombination & karten) == 0)
+                anzahl++;
+
+        long[] masken = new long[anzahl];
+        double[] neueGewichte = new double[anzahl];
+
+        for (int i = 0, j = 0; i < kombinationen.length; i++) {
+
+            if ((kombinationen[i] & karten) != 0)
+                continue;
+
+            masken[j] = kombinationen[i];
+            neueGewichte[j] = gewichte[i];
+            j++;
+        }
+
+        return new Range(masken, neueGewichte);
+    }
+
+    @Override
+    public String toString() {
+        return "Range [kombinationen=" + kombinationen.length + "]";
+    }
+
+    /*
+     * Parser
+     */
+
+    private static void parseTeil(String teil, double gewicht,
+            Map<Long, Double> kombinationen, String notation) {
+
+        /* Eine einzelne Kombination wie AhKh */
+        if (teil.length() == 4 && FARB_ZEICHEN.indexOf(teil.charAt(1)) >= 0) {
+
+            Karte karte1 = parseKarte(teil.substring(0, 2), notation);
+            Karte karte2 = parseKarte(teil.substring(2, 4), notation);
+
+            if (karte1 == karte2)
+                throw ungueltig(notation);
+
+            kombinationen.put(KartenMaske.von(karte1, karte2), gewicht);
+
+            return;
+        }
+
+        int strich = teil.indexOf('-');
+
+        if (strich >= 0) {
+
+            Klasse von = parseKlasse(teil.substring(0, strich), notation);
+            Klasse bis = parseKlasse(teil.substring(strich + 1), notation);
+
+            if (von.typ != bis.typ || von.istPaar() != bis.istPaar())
+                throw ungueltig(notation);
+
+            if (von.istPaar()) {
+
+                /* 99-QQ oder QQ-99 */
+                for (int wert = Math.min(von.hoch, bis.hoch); wert <= Math.max(von.hoch, bis.hoch); wert++)
+                    fuegeHinzu(wert, wert, von.typ, gewicht, kombinationen);
+
+            } else if (von.hoch == bis.hoch) {
+
+                /* KQs-K9s: Nur der Kicker ändert sich. */
+                for (int niedrig = Math.min(von.niedrig, bis.niedrig); niedrig <= Math.max(von.niedrig, bis.niedrig); niedrig++)
+                    fuegeHinzu(von.hoch, niedrig, von.typ, gewicht, kombinationen);
+
+            } else if (von.niedrig - von.hoch == bis.niedrig - bis.hoch) {
+
+                /* 76s-54s: Beide Karten wandern mit gleichem Abstand. */
+                int abstand = von.niedrig - von.hoch;
+
+                for (int hoch = Math.min(von.hoch, bis.hoch); hoch <= Math.max(von.hoch, bis.hoch); hoch++)
+                    fuegeHinzu(hoch, hoch + abstand, von.typ, gewicht, kombinationen);
+
+            } else {
+                throw ungueltig(notation);
+            }
+
+            return;
+        }
+
+        boolean plus = teil.endsWith("+");
+
+        Klasse klasse = parseKlasse(plus ? teil.substring(0, teil.length() - 1) : teil, notation);
+
+        if (!plus) {
+            fuegeHinzu(klasse.hoch, klasse.niedrig, klasse.typ, gewicht, kombinationen);
+            return;
+        }
+
+        if (klasse.istPaar()) {
+
+            /* QQ+: bis hoch zu den Assen */
+            for (int wert = klasse.hoch; wert >= 0; wert--)
+                fuegeHinzu(wert, wert, klasse.typ, gewicht, kombinationen);
+
+        } else {
+
+            /* A9s+: Der Kicker steigt bis unter die hohe Karte. */
+            for (int niedrig = klasse.niedrig; niedrig > klasse.hoch; niedrig--)
+                fuegeHinzu(klasse.hoch, niedrig, klasse.typ, gewicht, kombinationen);
+        }
+    }
+
+    /**
+     * Fügt alle Kombinationen zweier Werte hinzu. Die Werte sind als
+     * {@link Karte.Wert#ordinal()} angegeben, also Ass = 0.
+     */
+    private static void fuegeHinzu(int hoch, int niedrig, char typ, double gewicht,
+            Map<Long, Double> kombinationen) {
+
+        for (int farbe1 = 0; farbe1 < FARB_ZEICHEN.length(); farbe1++) {
+            for (int farbe2 = 0; farbe2 < FARB_ZEICHEN.length(); farbe2++) {
+
+                if (hoch == niedrig && farbe2 <= farbe1)
+                    continue;
+
+                if (typ == 's' && farbe1 != farbe2 || typ == 'o' && farbe1 == farbe2)
+                    continue;
+
+                Karte karte1 = KartenCodec.getKarte(farbe1 * 13 + hoch);
+                Karte karte2 = KartenCodec.getKarte(farbe2 * 13 + niedrig);
+
+                kombinationen.put(KartenMaske.von(karte1, karte2), gewicht);
+            }
+        }
+    }
+
+    private static Klasse parseKlasse(String text, String notation) {
+
+        if (text.length() < 2 || text.length() > 3)
+            throw ungueltig(notation);
+
+        int wert1 = WERT_ZEICHEN.indexOf(Character.toUpperCase(text.charAt(0)));
+        int wert2 = WERT_ZEICHEN.indexOf(Character.toUpperCase(text.charAt(1)));
+
+        if (wert1 < 0 || wert2 < 0)
+            throw ungueltig(notation);
+
+        char typ = text.length() == 3 ? Character.toLowerCase(text.charAt(2)) : 0;
+
+        if (typ != 0 && typ != 's' && typ != 'o' || wert1 == wert2 && typ != 0)
+            throw ungueltig(notation);
+
+        return new Klasse(Math.min(wert1, wert2), Math.max(wert1, wert2), typ);
+    }
+
+    private static Karte parseKarte(String text, String notation) {
+
+        int wert = WERT_ZEICHEN.indexOf(Character.toUpperCase(text.charAt(0)));
+        int farbe = FARB_ZEICHEN.indexOf(Character.toLowerCase(text.charAt(1)));
+
+        if (wert < 0 || farbe < 0)
+            throw ungueltig(notation);
+
+        return KartenCodec.getKarte(farbe * 13 + wert);
+    }
+
+    private static double parseGewicht(String text, String notation) {
+
+        try {
+
+            double gewicht = Double.parseDouble(text);
+
+            if (gewicht < 0 || gewicht > 1)
+                throw ungueltig(notation);
+
+            return gewicht;
+
+        } catch (NumberFormatException e) {
+            throw ungueltig(notation);
+        }
+    }
+
+    private static IllegalArgumentException ungueltig(String notation) {
+        return new IllegalArgumentException("Ungültige Range: " + notation);
+    }
+
+    /**
+     * Zwei Werte (Ass = 0) und 's', 'o' oder 0 für beides.
+     */
+    private static final class Klasse {
+
+        final int hoch;
+        final int niedrig;
+        final char typ;
+
+        Klasse(int hoch, int niedrig, char typ) {
+            this.hoch = hoch;
+            this.niedrig = niedrig;
+            this.typ = typ;
+        }
+
+        boolean istPaar() {
+            return hoch == niedrig;
+        }
+    }
+}
@@ -0,0 +1,434 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import de.stefan_oltmann.poker.model.hand.HandBewerter;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+/**
+ * Berechnet die Equity von Range gegen Range bzw. Hand gegen Range
+ * ({@link Range#von(long)}).
+ *
+ * Für jedes Board werden alle Kombinationen beider Ranges genau einmal
+ * bewertet und nach Rang sortiert. Statt jede Kombination der ersten mit
+ * jeder der zweiten Range zu vergleichen, werden beide in aufsteigender
+ * Reihenfolge durchlaufen und die Gewichte der zweiten Range aufsummiert,
+ * die einen kleineren bzw. höchstens gleichen Rang haben. Ein Board kostet
+ * damit O((n1 + n2) log n) statt O(n1 * n2).
+ *
+ * Card Removal: Kombinationen, die sich mit dem Board überschneiden, werden
+ * nicht sortiert. Für Paarungen, die sich eine Karte teilen, werden die
+ * Summen zusätzlich pro Karte geführt und für die beiden Karten der
+ * Kombination wieder abgezogen. Die Kombination aus genau denselben Karten
+ * wird dabei doppelt abgezogen und deshalb einmal wieder addiert. Da jede
+ * gültige Paarung gleich viele Boards hat, ist das Ergebnis bei
+ * vollständiger Aufzählung exakt.
+ *
+ * Sind höchstens {@link EquityCalculator#STANDARD_MAX_EXAKTE_BOARDS} Boards
+ * möglich, werden alle aufgezählt, ansonsten werden {@link #STICHPROBEN}
+ * zufällige Boards gezogen. Die Boards werden auf den {@link ForkJoinPool}
+ * verteilt; jede Aufgabe bewertet dabei alle Kombinationen ihrer Boards.
+ */
+public class RangeEquityCalculator {
+
+    public static final int STICHPROBEN = 20000;
+
+    /* So viele Boards bewertet eine Aufgabe mindestens am Stück. */
+    static final int BOARDS_PRO_AUFGABE = 64;
+
+    /* Index der Gesamtsumme hinter den Summen der 64 Bits einer KartenMaske */
+    private static final int GESAMT = 64;
+
+    private final ForkJoinPool pool;
+
+    private final long maxExakteBoards;
+    private final int stichproben;
+
+    public RangeEquityCalculator() {
+        this(ForkJoinPool.commonPool(), EquityCalculator.STANDARD_MAX_EXAKTE_BOARDS, STICHPROBEN);
+    }
+
+    public RangeEquityCalculator(ForkJoinPool pool, long maxExakteBoards, int stichproben) {
+        this.pool = pool;
+        this.maxExakteBoards = maxExakteBoards;
+        this.stichproben = stichproben;
+    }
+
+    public RangeErgebnis berechne(String range1, String range2, long board) {
+        return berechne(Range.parse(range1), Range.parse(range2), board);
+    }
+
+    public RangeErgebnis berechne(Range range1, Range range2, long board) {
+        return berechne(range1, range2, board, new SplittableRandom().nextLong());
+    }
+
+    public RangeErgebnis berechne(Range range1, Range range2, long board, long seed) {
+
+        int boardKarten = KartenMaske.getAnzahl(board);
+
+        if (boardKarten > EquityCalculator.BOARD_KARTEN || boardKarten == 1 || boardKarten == 2)
+            throw new IllegalArgumentException("Ungültiges Board: " + KartenMaske.toString(board));
+
+        long start = System.nanoTime();
+
+        Range rest1 = range1.ohne(board);
+        Range rest2 = range2.ohne(board);
+
+        if (rest1.getAnzahl() == 0 || rest2.getAnzahl() == 0)
+            throw new IllegalArgumentException("Eine Range ist leer.");
+
+        int[] restDeck = EquityCalculator.getRestDeck(new long[0], board);
+
+        int fehlend = EquityCalculator.BOARD_KARTEN - boardKarten;
+
+        long anzahlBoards = EquityCalculator.getAnzahlBoards(restDeck.length, fehlend);
+
+        boolean exakt = anzahlBoards <= maxExakteBoards;
+
+        /*
+         * Die Boards werden über ihre Nummer verteilt. Exakt ist die Nummer
+         * der Index in der Aufzählung, bei Monte-Carlo nur ein Zähler.
+         */
+        Aufgabe aufgabe = new Aufgabe(rest1, rest2, findeGleicheKombinationen(rest1, rest2),
+                board, restDeck, fehlend, exakt,
+                new SplittableRandom(seed), 0, exakt ? anzahlBoards : stichproben);
+
+        Zaehler zaehler = pool.invoke(aufgabe);
+
+        if (zaehler.gesamt == 0)
+            throw new IllegalArgumentException("Die Ranges überschneiden sich vollständig.");
+
+        return new RangeErgebnis(
+                new double[] { zaehler.siege1, zaehler.siege2 },
+                new double[] { zaehler.unentschieden, zaehler.unentschieden },
+                zaehler.gesamt, exakt ? anzahlBoards : stichproben, exakt,
+                System.nanoTime() - start);
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    /**
+     * Liefert zu jeder Kombination der ersten Range den Index derselben
+     * Kombination in der zweiten Range oder -1.
+     */
+    private static int[] findeGleicheKombinationen(Range range1, Range range2) {
+
+        Map<Long, Integer> indexProKombination = new HashMap<Long, Integer>();
+
+        for (int j = 0; j < range2.getAnzahl(); j++)
+            indexProKombination.put(range2.getKombination(j), j);
+
+        int[] gleicheKombinationen = new int[range1.getAnzahl()];
+
+        for (int i = 0; i < gleicheKombinationen.length; i++) {
+
+            Integer j = indexProKombination.get(range1.getKombination(i));
+
+            gleicheKombinationen[i] = j != null ? j : -1;
+        }
+
+        return gleicheKombinationen;
+    }
+
+    /**
+     * Schreibt das Board mit der gegebenen Nummer in der lexikographischen
+     * Aufzählung aller Kombinationen von "fehlend" aus "restDeck" in
+     * "indizes".
+     */
+    static void waehleBoard(long nummer, int n, int fehlend, int[] indizes) {
+
+        int ab = 0;
+
+        for (int k = 0; k < fehlend; k++) {
+
+            for (int i = ab;; i++) {
+
+                long mitI = EquityCalculator.getAnzahlBoards(n - i - 1, fehlend - k - 1);
+
+                if (nummer < mitI) {
+                    indizes[k] = i;
+                    ab = i + 1;
+                    break;
+                }
+
+                nummer -= mitI;
+            }
+        }
+    }
+
+    /**
+     * Die Summen der Gewichte einer Aufgabe
+     */
+    private static final class Zaehler {
+
+        double siege1;
+        double siege2;
+        double unentschieden;
+        double gesamt;
+
+        void addiere(Zaehler zaehler) {
+            siege1 += zaehler.siege1;
+            siege2 += zaehler.siege2;
+            unentschieden += zaehler.unentschieden;
+            gesamt += zaehler.gesamt;
+        }
+    }
+
+    /**
+     * Bewertet die Boards mit den Nummern [von, bis). Große Bereiche werden
+     * halbiert, Monte-Carlo-Aufgaben erhalten dabei abgespaltene
+     * Zufallsgeneratoren.
+     */
+    private static class Aufgabe extends RecursiveTask<Zaehler> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Range range1;
+        private final Range range2;
+        private final int[] gleicheKombinationen;
+        private final long board;
+        private final int[] restDeck;
+        private final int fehlend;
+        private final boolean exakt;
+        private final SplittableRandom random;
+        private final long von;
+        private final long bis;
+
+        Aufgabe(Range range1, Range range2, int[] gleicheKombinationen, long board, int[] restDeck,
+                int fehlend, boolean exakt, SplittableRandom random, long von, long bis) {
+
+            this.range1 = range1;
+            this.range2 = range2;
+            this.gleicheKombinationen = gleicheKombinationen;
+            this.board = board;
+            this.restDeck = restDeck;
+            this.fehlend = fehlend;
+            this.exakt = exakt;
+            this.random = random;
+            this.von = von;
+            this.bis = bis;
+        }
+
+        @Override
+        protected Zaehler compute() {
+
+            if (bis - von > BOARDS_PRO_AUFGABE) {
+
+                long mitte = (von + bis) >>> 1;
+
+                Aufgabe links = new Aufgabe(range1, range2, gleicheKombinationen, board, restDeck,
+                        fehlend, exakt, random.split(), von, mitte);
+
+                Aufgabe rechts = new Aufgabe(range1, range2, gleicheKombinationen, board, restDeck,
+                        fehlend, exakt, random, mitte, bis);
+
+                links.fork();
+
+                Zaehler zaehler = rechts.compute();
+                zaehler.addiere(links.join());
+
+                return zaehler;
+            }
+
+            Zaehler zaehler = new Zaehler();
+
+            Summen summen = new Summen(range1.getAnzahl(), range2.getAnzahl());
+
+            int[] deck = restDeck.clone();
+            int[] indizes = new int[fehlend];
+
+            for (long nummer = von; nummer < bis; nummer++) {
+
+                long vollesBoard = board;
+
+                if (exakt) {
+
+                    waehleBoard(nummer, deck.length, fehlend, indizes);
+
+                    for (int index : indizes)
+                        vollesBoard |= 1L << deck[index];
+
+                } else {
+
+                    /* Fisher-Yates, aber nur für die fehlenden Karten */
+                    for (int i = 0; i < fehlend; i++) {
+
+                        int j = i + random.nextInt(deck.length - i);
+
+                        int karte = deck[j];
+                        deck[j] = deck[i];
+                        deck[i] = karte;
+
+                        vollesBoard |= 1L << karte;
+                    }
+                }
+
+                werte(zaehler, vollesBoard, summen);
+            }
+
+            return zaehler;
+        }
+
+        private void werte(Zaehler zaehler, long vollesBoard, Summen summen) {
+
+            long[] sortiert1 = summen.sortiert1;
+            long[] sortiert2 = summen.sortiert2;
+
+            int[] raenge2 = summen.raenge2;
+
+            /* Die zweite Range zuerst, damit gleiche Kombinationen ihren Rang übernehmen */
+            int n2 = 0;
+
+            for (int j = 0; j < range2.getAnzahl(); j++) {
+
+                long kombination = range2.getKombination(j);
+
+                raenge2[j] = (kombination & vollesBoard) != 0 ? -1 : HandBewerter.bewerte(kombination | vollesBoard);
+
+                if (raenge2[j] >= 0)
+                    sortiert2[n2++] = (long) raenge2[j] << 32 | j;
+            }
+
+            int n1 = 0;
+
+            for (int i = 0; i < range1.getAnzahl(); i++) {
+
+                long kombination = range1.getKombination(i);
+
+                if ((kombination & vollesBoard) != 0)
+                    continue;
+
+                int gleich = gleicheKombinationen[i];
+
+                int rang = gleich >= 0 ? raenge2[gleich] : HandBewerter.bewerte(kombination | vollesBoard);
+
+                sortiert1[n1++] = (long) rang << 32 | i;
+            }
+
+            Arrays.sort(sortiert1, 0, n1);
+            Arrays.sort(sortiert2, 0, n2);
+
+            double[] alle = summen.alle;
+            double[] kleiner = summen.kleiner;
+            double[] kleinerGleich = summen.kleinerGleich;
+
+            Arrays.fill(alle, 0);
+            Arrays.fill(kleiner, 0);
+            Arrays.fill(kleinerGleich, 0);
+
+            for (int j = 0; j < n2; j++)
+                addiere(alle, (int) sortiert2[j]);
+
+            /* Die ersten k bzw. g Kombinationen der zweiten Range sind aufsummiert. */
+            int k = 0;
+            int g = 0;
+
+            for (int i = 0; i < n1; i++) {
+
+                int rang = (int) (sortiert1[i] >>> 32);
+                int index = (int) sortiert1[i];
+
+                while (k < n2 && (int) (sortiert2[k] >>> 32) < rang)
+                    addiere(kleiner, (int) sortiert2[k++]);
+
+                while (g < n2 && (int) (sortiert2[g] >>> 32) <= rang)
+                    addiere(kleinerGleich, (int) sortiert2[g++]);
+
+                long kombination = range1.getKombination(index);
+
+                int karte1 = Long.numberOfTrailingZeros(kombination);
+                int karte2 = 63 - Long.numberOfLeadingZeros(kombination);
+
+                double summeAlle = alle[GESAMT] - alle[karte1] - alle[karte2];
+                double summeKleiner = kleiner[GESAMT] - kleiner[karte1] - kleiner[karte2];
+                double summeKleinerGleich = kleinerGleich[GESAMT] - kleinerGleich[karte1] - kleinerGleich[karte2];
+
+                /*
+                 * Dieselbe Kombination in der zweiten Range wurde für beide
+                 * Karten abgezogen. Sie hat denselben Rang, zählt also bei
+                 * "kleiner" gar nicht und muss sonst einmal zurück.
+                 */
+                int gleich = gleicheKombinationen[index];
+
+                if (gleich >= 0) {
+
+                    double gewicht = range2.getGewicht(gleich);
+
+                    summeAlle += gewicht;
+                    summeKleinerGleich += gewicht;
+                }
+
+                double gewicht1 = range1.getGewicht(index);
+
+                zaehler.gesamt += gewicht1 * summeAlle;
+                zaehler.siege1 += gewicht1 * summeKleiner;
+                zaehler.siege2 += gewicht1 * (summeAlle - summeKleinerGleich);
+                zaehler.unentschieden += gewicht1 * (summeKleinerGleich - summeKleiner);
+            }
+        }
+
+        /* Addiert das Gewicht einer Kombination der zweiten Range. */
+        private void addiere(double[] summen, int index) {
+
+            long kombination = range2.getKombination(index);
+            double gewicht = range2.getGewicht(index);
+
+            summen[GESAMT] += gewicht;
+            summen[Long.numberOfTrailingZeros(kombination)] += gewicht;
+            summen[63 - Long.numberOfLeadingZeros(kombination)] += gewicht;
+        }
+    }
+
+    /**
+     * Die Arbeits-Arrays einer Aufgabe, die für jedes Board wiederverwendet
+     * werden.
+     */
+    private static final class Summen {
+
+        /* Rang und Index jeder Kombination, die sich nicht mit dem Board überschneidet */
+        final long[] sortiert1;
+        final long[] sortiert2;
+
+        /* Der Rang jeder Kombination der zweiten Range, -1 bei Überschneidung */
+        final int[] raenge2;
+
+        /* Die Gewichte der zweiten Range pro Karte, an GESAMT die Summe */
+        final double[] alle = new double[GESAMT + 1];
+        final double[] kleiner = new double[GESAMT + 1];
+        final double[] kleinerGleich = new double[GESAMT + 1];
+
+        Summen(int anzahl1, int anzahl2) {
+            sortiert1 = new long[anzahl1];
+            sortiert2 = new long[anzahl2];
+            raenge2 = new int[anzahl2];
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+/**
+ * Das Ergebnis von Range gegen Range. Alle Werte sind mit den Gewichten der
+ * Kombinationen gewichtet und beziehen sich auf die erste (0) oder zweite (1)
+ * Range.
+ */
+public class RangeErgebnis {
+
+    private final double[] siege;
+    private final double[] unentschieden;
+
+    /* Die Summe der Gewichte aller ausgewerteten Paarungen */
+    private final double gesamt;
+
+    private final long boards;
+
+    private final boolean exakt;
+
+    private final long dauerNanos;
+
+    RangeErgebnis(double[] siege, double[] unentschieden, double gesamt, long boards,
+            boolean exakt, long dauerNanos) {
+
+        this.siege = siege;
+        this.unentschieden = unentschieden;
+        this.gesamt = gesamt;
+        this.boards = boards;
+        this.exakt = exakt;
+        this.dauerNanos = dauerNanos;
+    }
+
+    public double getSiegWahrscheinlichkeit(int range) {
+        return siege[range] / gesamt;
+    }
+
+    public double getUnentschiedenWahrscheinlichkeit(int range) {
+        return unentschieden[range] / gesamt;
+    }
+
+    public double getEquity(int range) {
+        return (siege[range] + unentschieden[range] / 2) / gesamt;
+    }
+
+    /**
+     * Die Anzahl der ausgewerteten Boards, bei Monte-Carlo die Stichproben.
+     */
+    public long getBoards() {
+        return boards;
+    }
+
+    public boolean isExakt() {
+        return exakt;
+    }
+
+    public long getDauerNanos() {
+        return dauerNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeErgebnis [equity=" + getEquity(0) + " / " + getEquity(1) + ", boards=" + boards
+                + ", exakt=" + exakt + "]";
+    }
+}
@@ -1,59 +1,225 @@
-/*****************************************************************************
- * Stefans Poker Game                                                        *
- *                                                                           *
- * Copyright (C) 2016 Stefan Oltmann                                         *
- *                                                                           *
- * Contact : pokergame@stefan-oltmann.de                                     *
- * Homepage: http://www.stefan-oltmann.de/                                   *      
- *                                                                           *
- * This program is free software: you can redistribute it and/or modify      *
- * it under the terms of the GNU Affero General Public License as            *
- * published by the Free Software Foundation, either version 3 of the        *
- * License, or (at your option) any later version.                           *
- *                                                                           *
- * This program is distributed in the hope that it will be useful,           *
- * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
- * GNU Affero General Public License for more details.                       *
- *                                                                           *
- * You should have received a copy of the GNU Affero General Public License  *
- * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
- *****************************************************************************/
-package de.stefan_oltmann.poker.model.hand;
-
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Stack;
-
-/**
- * Ein Kartendeck (kurz "Deck") ist eine Liste von Karten,
- * die zufällig gemischt sind.
- */
-public class Deck {
-
-    private Stack<Karte> karten;
-
-    public Deck() {
-        karten = new Stack<Karte>();
-        neuMischen();
-    }
-
-    public Stack<Karte> getKarten() {
-        return karten;
-    }
-
-    public void setKarten(Stack<Karte> karten) {
-        this.karten = karten;
-    }
-
-    public void neuMischen() {
-
-        karten.clear();
-        karten.addAll(Arrays.asList(Karte.values()));
-        Collections.shuffle(karten);
-    }
-
-    public Karte hebeKarteAb() {
-        return karten.pop();
-    }
-}
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.EmptyStackException;
+import java.util.Stack;
+
+/**
+ * Ein Kartendeck (kurz "Deck") ist eine Liste von Karten,
+ * die zufällig gemischt sind.
+ *
+ * Die Karten liegen als Ordinalzahlen in einem byte-Array und werden mit
+ * Fisher-Yates an Ort und Stelle gemischt. Gemischt wird erst beim Abheben
+ * und nur die Karte, die gerade gebraucht wird: Jede abgehobene Karte wird
+ * gleichverteilt aus den noch nicht gemischten Karten gezogen. Eine Hand mit
+ * zwei Spielern braucht so nur 9 statt 51 Zufallszahlen.
+ *
+ * Ein Deck mit Seed liefert immer dieselbe Reihenfolge, unabhängig davon,
+ * wie viele Karten im Voraus gemischt werden. Damit lässt sich eine Hand
+ * exakt nachspielen.
+ *
+ * Welche Karten im Deck sind, bestimmt die {@link Variante}.
+ */
+public class Deck {
+
+    public static final int ANZAHL_KARTEN = 52;
+
+    private static final Karte[] KARTEN = Karte.values();
+
+    private final Variante variante;
+
+    private final byte[] karten = new byte[ANZAHL_KARTEN];
+
+    /* Anzahl der Karten im Deck, weniger als bei der Variante nur nach setKarten() */
+    private int anzahl;
+
+    /* Anzahl der bereits abgehobenen Karten */
+    private int position;
+
+    /* Bis hierhin liegen die Karten bereits in ihrer endgültigen Reihenfolge. */
+    private int gemischtBis;
+
+    private Zufallsquelle zufallsquelle;
+
+    /* Gesetzt, wenn das Deck mit einem Seed gemischt wird */
+    private Long seed;
+    private byte[] sichererSeed;
+
+    public Deck() {
+        this(Zufallsquelle.schnell());
+    }
+
+    /**
+     * Erzeugt ein Deck, das mit dem Seed gemischt wird.
+     */
+    public Deck(long seed) {
+        this(Variante.TEXAS_HOLDEM, seed);
+    }
+
+    public Deck(Zufallsquelle zufallsquelle) {
+        this(Variante.TEXAS_HOLDEM, zufallsquelle);
+    }
+
+    public Deck(Variante variante, long seed) {
+        this(variante, Zufallsquelle.mitSeed(seed));
+        this.seed = seed;
+    }
+
+    /**
+     * Erzeugt ein Deck, das mit einem sicheren Seed gemischt wird (siehe
+     * {@link Zufallsquelle#mitSeed(byte[])}).
+     */
+    public Deck(Variante variante, byte[] seed) {
+        this(variante, Zufallsquelle.mitSeed(seed));
+        this.sichererSeed = seed.clone();
+    }
+
+    public Deck(Variante variante, Zufallsquelle zufallsquelle) {
+
+        this.variante = variante;
+        this.zufallsquelle = zufallsquelle;
+
+        neuMischen();
+    }
+
+    public Variante getVariante() {
+        return variante;
+    }
+
+    public Zufallsquelle getZufallsquelle() {
+        return zufallsquelle;
+    }
+
+    public void setZufallsquelle(Zufallsquelle zufallsquelle) {
+        this.zufallsquelle = zufallsquelle;
+        this.seed = null;
+        this.sichererSeed = null;
+    }
+
+    /**
+     * Liefert den Seed, mit dem das Deck gemischt wird, oder null.
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Liefert den sicheren Seed, mit dem das Deck gemischt wird, oder null.
+     */
+    public byte[] getSichererSeed() {
+        return sichererSeed != null ? sichererSeed.clone() : null;
+    }
+
+    /**
+     * Liefert die verbleibenden Karten als Stack, dessen oberste Karte als
+     * nächste abgehoben wird. Dazu wird der Rest des Decks vollständig
+     * gemischt.
+     */
+    public Stack<Karte> getKarten() {
+
+        mische(anzahl - position);
+
+        Stack<Karte> stack = new Stack<Karte>();
+
+        for (int i = anzahl - 1; i >= position; i--)
+            stack.push(KARTEN[karten[i]]);
+
+        return stack;
+    }
+
+    /**
+     * Legt die Karten in der Reihenfolge des Stacks fest. Sie werden bis
+     * zum nächsten {@link #neuMischen()} nicht mehr gemischt.
+     */
+    public void setKarten(Stack<Karte> stack) {
+
+        if (stack.size() > karten.length)
+            throw new IllegalArgumentException("Zu viele Karten: " + stack.size());
+
+        anzahl = stack.size();
+        position = 0;
+        gemischtBis = anzahl;
+
+        for (int i = 0; i < anzahl; i++)
+            karten[i] = (byte) stack.get(anzahl - 1 - i).ordinal();
+    }
+
+    public void neuMischen() {
+
+        byte[] deckKarten = variante.getDeckKarten();
+
+        System.arraycopy(deckKarten, 0, karten, 0, deckKarten.length);
+
+        anzahl = deckKarten.length;
+        position = 0;
+        gemischtBis = 0;
+    }
+
+    /**
+     * Mischt die nächsten "anzahlKarten" Karten im Voraus, damit beim
+     * Abheben keine Zufallszahlen mehr benötigt werden.
+     */
+    public void mische(int anzahlKarten) {
+
+        int bis = Math.min(anzahl, position + anzahlKarten);
+
+        while (gemischtBis < bis)
+            mischeNaechsteKarte();
+    }
+
+    public Karte hebeKarteAb() {
+        return KARTEN[hebeKartenIndexAb()];
+    }
+
+    /**
+     * Wie {@link #hebeKarteAb()}, liefert aber die Ordinalzahl der Karte.
+     */
+    public int hebeKartenIndexAb() {
+
+        if (position == anzahl)
+            throw new EmptyStackException();
+
+        if (position == gemischtBis)
+            mischeNaechsteKarte();
+
+        return karten[position++];
+    }
+
+    public int getAnzahlVerbleibenderKarten() {
+        return anzahl - position;
+    }
+
+    /**
+     * Ein Schritt von Fisher-Yates: Die Karte an der Stelle "gemischtBis"
+     * wird mit einer zufälligen der restlichen Karten getauscht.
+     */
+    private void mischeNaechsteKarte() {
+
+        int i = gemischtBis++;
+        int j = i + zufallsquelle.naechsterInt(anzahl - i);
+
+        byte karte = karten[i];
+        karten[i] = karten[j];
+        karten[j] = karte;
+    }
+}
@@ -0,0 +1,305 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Der FuenfKartenBewerter ist auf Flop und Turn zugeschnitten, wo fünf bzw.
+ * sechs Karten zu bewerten sind. Er liefert denselben Rang wie der
+ * {@link HandBewerter}, kommt aber mit zwei Tabellen aus:
+ *
+ * 1) Sind alle fünf Karten von einer Farbe, ist die Wert-Maske dieser Farbe
+ * direkt der Index in die Flush-Tabelle.
+ *
+ * 2) Ansonsten hängt der Rang nur von den Werten ab. Jeder Wert hat eine
+ * Primzahl, deren Produkt über die fünf Karten für jede Verteilung der Werte
+ * eindeutig ist. Die 6.175 möglichen Produkte werden über einen perfekten
+ * Hash (Hash and Displace) ohne Kollisionen auf eine Tabelle mit 8.192
+ * Einträgen abgebildet.
+ *
+ * Beide Tabellen werden beim Laden der Klasse einmalig mit dem
+ * {@link HandBewerter} berechnet.
+ */
+public final class FuenfKartenBewerter {
+
+    public static final int ANZAHL_KARTEN = 5;
+
+    /* Maximal vier Karten eines Werts */
+    private static final int MAX_PRO_WERT = 4;
+
+    private static final int BUCKET_BITS = 11;
+    private static final int TABELLEN_BITS = 13;
+
+    private static final int BUCKET_HASH = 0x9E3779B1;
+    private static final int TABELLEN_HASH = 0x85EBCA6B;
+
+    /* Die Primzahl jeder Karte nach ihrem Bit-Index in der KartenMaske */
+    private static final int[] KARTEN_PRIMZAHL = new int[64];
+
+    private static final int[] FLUSH_TABELLE = new int[1 << 13];
+
+    /* Pro Bucket der Versatz, mit dem alle seine Produkte frei liegen */
+    private static final int[] VERSATZ = new int[1 << BUCKET_BITS];
+
+    private static final int[] WERTE_TABELLE = new int[1 << TABELLEN_BITS];
+
+    static {
+
+        for (int index = 0; index < KartenCodec.ANZAHL_KARTEN; index++)
+            KARTEN_PRIMZAHL[KartenCodec.getBitIndex(index)] = KartenCodec.getPrimzahl(index);
+
+        for (int werte = 0; werte < FLUSH_TABELLE.length; werte++)
+            if (Integer.bitCount(werte) == ANZAHL_KARTEN)
+                FLUSH_TABELLE[werte] = HandBewerter.bewerte(werte);
+
+        erzeugePerfektenHash();
+    }
+
+    private FuenfKartenBewerter() {
+        /* Nur statische Methoden */
+    }
+
+    /*
+     * Bewertung
+     */
+
+    public static int bewerte(Collection<Karte> karten) {
+
+        if (karten.size() == ANZAHL_KARTEN)
+            return bewerte(KartenMaske.von(karten));
+
+        if (karten.size() == ANZAHL_KARTEN + 1)
+            return bewerteSechs(KartenMaske.von(karten));
+
+        throw new IllegalArgumentException("Es müssen 5 oder 6 Karten bewertet werden.");
+    }
+
+    /**
+     * Liefert für genau fünf Karten denselben Rang wie
+     * {@link HandBewerter#bewerte(long)}.
+     */
+    public static int bewerte(long karten) {
+
+        int flush = findeFlush(karten);
+
+        if (flush != 0)
+            return FLUSH_TABELLE[flush];
+
+        int produkt = 1;
+
+        for (long rest = karten; rest != 0; rest &= rest - 1)
+            produkt *= KARTEN_PRIMZAHL[Long.numberOfTrailingZeros(rest)];
+
+        return WERTE_TABELLE[slot(produkt)];
+    }
+
+    /**
+     * Liefert für genau sechs Karten den besten Rang aller sechs Teilmengen
+     * aus fünf Karten. Das Produkt der Primzahlen wird nur einmal gebildet
+     * und für jede Teilmenge durch die Primzahl der fehlenden Karte geteilt.
+     */
+    public static int bewerteSechs(long karten) {
+
+        long produkt = 1;
+
+        for (long rest = karten; rest != 0; rest &= rest - 1)
+            produkt *= KARTEN_PRIMZAHL[Long.numberOfTrailingZeros(rest)];
+
+        int besterRang = 0;
+
+        for (long rest = karten; rest != 0; rest &= rest - 1) {
+
+            int bitIndex = Long.numberOfTrailingZeros(rest);
+
+            int flush = findeFlush(karten & ~(1L << bitIndex));
+
+            int rang = flush != 0
+                    ? FLUSH_TABELLE[flush]
+                    : WERTE_TABELLE[slot((int) (produkt / KARTEN_PRIMZAHL[bitIndex]))];
+
+            if (rang > besterRang)
+                besterRang = rang;
+        }
+
+        return besterRang;
+    }
+
+    /**
+     * Bewertet genau fünf Karten, deren Primzahl-Produkt der Aufrufer schon
+     * kennt. Gedacht für Bewerter, die viele Teilmengen aus vorberechneten
+     * Teilprodukten zusammensetzen (z.B. {@link OmahaBewerter}).
+     *
+     * @param flushMoeglich false, wenn der Aufrufer weiß, dass die fünf
+     *            Karten keinen Flush bilden können
+     */
+    static int bewerte(long karten, int produkt, boolean flushMoeglich) {
+
+        if (flushMoeglich) {
+
+            int flush = findeFlush(karten);
+
+            if (flush != 0)
+                return FLUSH_TABELLE[flush];
+        }
+
+        return WERTE_TABELLE[slot(produkt)];
+    }
+
+    static int getPrimzahl(int bitIndex) {
+        return KARTEN_PRIMZAHL[bitIndex];
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    /* Die Wert-Maske, falls alle fünf Karten dieselbe Farbe haben. */
+    private static int findeFlush(long karten) {
+
+        for (int farbe = 0; farbe < 64; farbe += 16) {
+
+            int werte = (int) (karten >>> farbe) & KartenMaske.WERT_BITS;
+
+            if (Integer.bitCount(werte) == ANZAHL_KARTEN)
+                return werte;
+        }
+
+        return 0;
+    }
+
+    private static int slot(int produkt) {
+        return slot(produkt, VERSATZ[produkt * BUCKET_HASH >>> (32 - BUCKET_BITS)]);
+    }
+
+    private static int slot(int produkt, int versatz) {
+        return (produkt ^ versatz) * TABELLEN_HASH >>> (32 - TABELLEN_BITS);
+    }
+
+    /*
+     * Hash and Displace: Die Produkte werden auf Buckets verteilt. Beginnend
+     * mit den vollsten Buckets wird für jeden der kleinste Versatz gesucht,
+     * mit dem alle seine Produkte auf noch freie Plätze fallen.
+     */
+    private static void erzeugePerfektenHash() {
+
+        List<List<int[]>> buckets = new ArrayList<List<int[]>>(VERSATZ.length);
+
+        for (int i = 0; i < VERSATZ.length; i++)
+            buckets.add(new ArrayList<int[]>());
+
+        sammleProdukte(buckets, new int[13], 12, ANZAHL_KARTEN);
+
+        List<List<int[]>> sortierteBuckets = new ArrayList<List<int[]>>(buckets);
+
+        Collections.sort(sortierteBuckets, new Comparator<List<int[]>>() {
+            @Override
+            public int compare(List<int[]> bucket1, List<int[]> bucket2) {
+                return Integer.compare(bucket2.size(), bucket1.size());
+            }
+        });
+
+        boolean[] belegt = new boolean[WERTE_TABELLE.length];
+
+        for (List<int[]> bucket : sortierteBuckets) {
+
+            if (bucket.isEmpty())
+                break;
+
+            int versatz = 0;
+
+            while (!passt(bucket, belegt, versatz))
+                versatz++;
+
+            VERSATZ[bucket.get(0)[0] * BUCKET_HASH >>> (32 - BUCKET_BITS)] = versatz;
+
+            for (int[] eintrag : bucket) {
+
+                int slot = slot(eintrag[0], versatz);
+
+                belegt[slot] = true;
+                WERTE_TABELLE[slot] = eintrag[1];
+            }
+        }
+    }
+
+    private static boolean passt(List<int[]> bucket, boolean[] belegt, int versatz) {
+
+        for (int i = 0; i < bucket.size(); i++) {
+
+            int slot = slot(bucket.get(i)[0], versatz);
+
+            if (belegt[slot])
+                return false;
+
+            /* Auch innerhalb des Buckets darf es keine Kollision geben. */
+            for (int j = 0; j < i; j++)
+                if (slot(bucket.get(j)[0], versatz) == slot)
+                    return false;
+        }
+
+        return true;
+    }
+
+    /*
+     * Durchläuft rekursiv alle Anzahlen pro Wert. Die Karten werden reihum
+     * auf die Farben verteilt, damit kein Flush entsteht.
+     */
+    private static void sammleProdukte(List<List<int[]>> buckets,
+            int[] anzahlProWert, int wert, int restlicheKarten) {
+
+        if (wert < 0) {
+
+            if (restlicheKarten != 0)
+                return;
+
+            long maske = KartenMaske.LEER;
+            int produkt = 1;
+            int karte = 0;
+
+            for (int w = 12; w >= 0; w--) {
+                for (int i = 0; i < anzahlProWert[w]; i++, karte++) {
+                    maske |= 1L << ((karte % 4) * 16 + w);
+                    produkt *= KartenCodec.PRIMZAHLEN[w];
+                }
+            }
+
+            buckets.get(produkt * BUCKET_HASH >>> (32 - BUCKET_BITS)).add(
+                    new int[] { produkt, HandBewerter.bewerte(maske) });
+
+            return;
+        }
+
+        for (int anzahl = 0; anzahl <= MAX_PRO_WERT && anzahl <= restlicheKarten; anzahl++) {
+
+            anzahlProWert[wert] = anzahl;
+
+            sammleProdukte(buckets, anzahlProWert, wert - 1, restlicheKarten - anzahl);
+        }
+
+        anzahlProWert[wert] = 0;
+    }
+}
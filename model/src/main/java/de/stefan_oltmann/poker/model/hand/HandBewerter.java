@@ -0,0 +1,339 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Collection;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Der HandBewerter berechnet die beste Kombination von bis zu sieben Karten,
+ * die als {@link KartenMaske} übergeben werden. Im Gegensatz zu
+ * {@link Hand#berechneBesteHand(Collection)} werden keine Listen oder Maps
+ * aufgebaut, sondern ausschließlich die 13-Bit-Wert-Masken der vier Farben
+ * miteinander verknüpft. Es wird kein einziges Objekt erzeugt.
+ *
+ * Das Ergebnis ist ein Rang als int, der wie folgt aufgebaut ist:
+ *
+ * <pre>
+ * Bit 20-23: Kombination.getWert() (1 = Höchste Karte ... 10 = Royal Flush)
+ * Bit 16-19: 1. Wert (z.B. der Drilling beim Full House)
+ * Bit 12-15: 2. Wert (z.B. das Paar beim Full House)
+ * Bit 8-11 : 3. Wert
+ * Bit 4-7  : 4. Wert
+ * Bit 0-3  : 5. Wert
+ * </pre>
+ *
+ * Die Werte sind aufsteigend von Zwei = 0 bis Ass = 12 kodiert. Dadurch
+ * gewinnt bei zwei Rängen immer derjenige, der als Zahl größer ist.
+ */
+public final class HandBewerter {
+
+    public static final int KOMBINATION_SHIFT = 20;
+
+    private static final int ASS = 12;
+
+    /* A-2-3-4-5: Das Ass zählt als Eins. */
+    private static final int WHEEL = 0x100F;
+
+    /* Die Fünf ist die höchste Karte im Wheel. */
+    private static final int WHEEL_HOECHSTE_KARTE = 3;
+
+    private static final int ROYAL_FLUSH = kategorie(Kombination.ROYAL_FLUSH);
+    private static final int STRAIGTH_FLUSH = kategorie(Kombination.STRAIGTH_FLUSH);
+    private static final int VIERLING = kategorie(Kombination.VIERLING);
+    private static final int FULL_HOUSE = kategorie(Kombination.FULL_HOUSE);
+    private static final int FLUSH = kategorie(Kombination.FLUSH);
+    private static final int STRASSE = kategorie(Kombination.STRASSE);
+    private static final int DRILLING = kategorie(Kombination.DRILLING);
+    private static final int ZWEI_PAARE = kategorie(Kombination.ZWEI_PAARE);
+    private static final int EIN_PAAR = kategorie(Kombination.EIN_PAAR);
+    private static final int HOECHSTE_KARTE = kategorie(Kombination.HOECHSTE_KARTE);
+
+    /* Index ist Kombination.getWert() */
+    private static final Kombination[] KOMBINATION_PRO_WERT = new Kombination[11];
+
+    static {
+
+        for (Kombination kombination : Kombination.values())
+            KOMBINATION_PRO_WERT[kombination.getWert()] = kombination;
+    }
+
+    private HandBewerter() {
+        /* Nur statische Methoden */
+    }
+
+    public static int bewerte(Collection<Karte> karten) {
+        return bewerte(KartenMaske.von(karten));
+    }
+
+    /**
+     * Berechnet den Rang der besten Hand aus bis zu sieben Karten.
+     */
+    public static int bewerte(long karten) {
+
+        int kreuz = (int) karten & KartenMaske.WERT_BITS;
+        int pik = (int) (karten >>> 16) & KartenMaske.WERT_BITS;
+        int herz = (int) (karten >>> 32) & KartenMaske.WERT_BITS;
+        int karo = (int) (karten >>> 48) & KartenMaske.WERT_BITS;
+
+        /*
+         * 10) Royal Flush
+         * 09) Straight Flush
+         *
+         * Im Gegensatz zu einer Straße muss hier die Straße innerhalb der
+         * Flush-Farbe liegen.
+         */
+
+        int flush = findeFlush(kreuz, pik, herz, karo);
+
+        if (flush != 0) {
+
+            int hoechsteKarte = findeStrasse(flush);
+
+            if (hoechsteKarte == ASS)
+                return ROYAL_FLUSH | ASS << 16;
+
+            if (hoechsteKarte >= 0)
+                return STRAIGTH_FLUSH | hoechsteKarte << 16;
+        }
+
+        int alle = kreuz | pik | herz | karo;
+
+        int vierlinge = kreuz & pik & herz & karo;
+        int mindestensDrei = kreuz & pik & (herz | karo) | (kreuz | pik) & herz & karo;
+        int mindestensZwei = kreuz & pik | herz & karo | (kreuz | pik) & (herz | karo);
+
+        /*
+         * 08) Vierling
+         */
+
+        if (vierlinge != 0) {
+
+            int vierling = hoechsterWert(vierlinge);
+
+            return VIERLING | vierling << 16 | packeWerte(alle & ~(1 << vierling), 1, 12);
+        }
+
+        /*
+         * 07) Full House
+         *
+         * Bei sieben Karten sind auch zwei Drillinge möglich. Der niedrigere
+         * zählt dann als Paar.
+         */
+
+        int drillinge = mindestensDrei;
+        int paare = mindestensZwei & ~mindestensDrei;
+
+        if (drillinge != 0) {
+
+            int drilling = hoechsterWert(drillinge);
+
+            int paarKandidaten = drillinge & ~(1 << drilling) | paare;
+
+            if (paarKandidaten != 0)
+                return FULL_HOUSE | drilling << 16 | hoechsterWert(paarKandidaten) << 12;
+        }
+
+        /*
+         * 06) Flush
+         */
+
+        if (flush != 0)
+            return FLUSH | packeWerte(flush, 5, 16);
+
+        /*
+         * 05) Strasse
+         */
+
+        int hoechsteKarteDerStrasse = findeStrasse(alle);
+
+        if (hoechsteKarteDerStrasse >= 0)
+            return STRASSE | hoechsteKarteDerStrasse << 16;
+
+        /*
+         * 04) Drilling
+         */
+
+        if (drillinge != 0) {
+
+            int drilling = hoechsterWert(drillinge);
+
+            return DRILLING | drilling << 16 | packeWerte(alle & ~(1 << drilling), 2, 12);
+        }
+
+        /*
+         * 03) Zwei Paare
+         * 02) Ein Paar
+         */
+
+        if (paare != 0) {
+
+            int hohesPaar = hoechsterWert(paare);
+
+            int weiterePaare = paare & ~(1 << hohesPaar);
+
+            if (weiterePaare != 0) {
+
+                int niedrigesPaar = hoechsterWert(weiterePaare);
+
+                return ZWEI_PAARE | hohesPaar << 16 | niedrigesPaar << 12
+                        | packeWerte(alle & ~(1 << hohesPaar) & ~(1 << niedrigesPaar), 1, 8);
+            }
+
+            return EIN_PAAR | hohesPaar << 16 | packeWerte(alle & ~(1 << hohesPaar), 3, 12);
+        }
+
+        /*
+         * 01) Höchste Karte
+         */
+
+        return HOECHSTE_KARTE | packeWerte(alle, 5, 16);
+    }
+
+    /**
+     * Liefert die Kombination, die in einem Rang kodiert ist.
+     */
+    public static Kombination getKombination(int rang) {
+        return KOMBINATION_PRO_WERT[rang >>> KOMBINATION_SHIFT];
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    /**
+     * Liefert die Wert-Maske der Farbe, von der mindestens fünf Karten
+     * vorhanden sind oder 0, falls es keinen Flush gibt.
+     */
+    static int findeFlush(int kreuz, int pik, int herz, int karo) {
+
+        if (Integer.bitCount(kreuz) >= 5)
+            return kreuz;
+
+        if (Integer.bitCount(pik) >= 5)
+            return pik;
+
+        if (Integer.bitCount(herz) >= 5)
+            return herz;
+
+        if (Integer.bitCount(karo) >= 5)
+            return karo;
+
+        return 0;
+    }
+
+    /**
+     * Liefert den Wert der höchsten Karte der besten Straße innerhalb der
+     * Wert-Maske oder -1, falls es keine Straße gibt.
+     */
+    static int findeStrasse(int werte) {
+
+        /*
+         * Ein Bit bleibt nur stehen, wenn auch die vier Werte darunter
+         * gesetzt sind.
+         */
+        int strassen = werte & werte << 1 & werte << 2 & werte << 3 & werte << 4;
+
+        if (strassen != 0)
+            return hoechsterWert(strassen);
+
+        /* Sonderfall bei Straßen: Ass kann auch die 1 sein! */
+        if ((werte & WHEEL) == WHEEL)
+            return WHEEL_HOECHSTE_KARTE;
+
+        return -1;
+    }
+
+    /**
+     * Liefert nur Kombination.getWert() ohne die Werte der Karten. Die
+     * Masken entsprechen denen in {@link #bewerte(long)}, "flush" ist das
+     * Ergebnis von {@link #findeFlush(int, int, int, int)}. Damit lässt sich
+     * eine Hand nach dem Hinzufügen einer Karte neu einordnen, ohne die
+     * Masken erneut aus allen Karten aufzubauen.
+     */
+    static int bewerteKombination(int flush, int alle, int mindestensZwei, int mindestensDrei, int vierlinge) {
+
+        if (flush != 0) {
+
+            int hoechsteKarte = findeStrasse(flush);
+
+            if (hoechsteKarte == ASS)
+                return Kombination.ROYAL_FLUSH.getWert();
+
+            if (hoechsteKarte >= 0)
+                return Kombination.STRAIGTH_FLUSH.getWert();
+        }
+
+        if (vierlinge != 0)
+            return Kombination.VIERLING.getWert();
+
+        /* Ein Drilling und ein weiterer Wert mit mindestens zwei Karten */
+        if (mindestensDrei != 0 && Integer.bitCount(mindestensZwei) >= 2)
+            return Kombination.FULL_HOUSE.getWert();
+
+        if (flush != 0)
+            return Kombination.FLUSH.getWert();
+
+        if (findeStrasse(alle) >= 0)
+            return Kombination.STRASSE.getWert();
+
+        if (mindestensDrei != 0)
+            return Kombination.DRILLING.getWert();
+
+        if (Integer.bitCount(mindestensZwei) >= 2)
+            return Kombination.ZWEI_PAARE.getWert();
+
+        if (mindestensZwei != 0)
+            return Kombination.EIN_PAAR.getWert();
+
+        return Kombination.HOECHSTE_KARTE.getWert();
+    }
+
+    static int hoechsterWert(int werte) {
+        return 31 - Integer.numberOfLeadingZeros(werte);
+    }
+
+    /**
+     * Packt die höchsten Werte der Maske absteigend in je vier Bit, beginnend
+     * an der Position "shift".
+     */
+    static int packeWerte(int werte, int anzahl, int shift) {
+
+        int ergebnis = 0;
+
+        for (int i = 0; i < anzahl && werte != 0; i++) {
+
+            int wert = hoechsterWert(werte);
+
+            ergebnis |= wert << (shift - 4 * i);
+
+            werte &= ~(1 << wert);
+        }
+
+        return ergebnis;
+    }
+
+    private static int kategorie(Kombination kombination) {
+        return kombination.getWert() << KOMBINATION_SHIFT;
+    }
+}
@@ -0,0 +1,136 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+import de.stefan_oltmann.poker.model.hand.Karte.Farbe;
+import de.stefan_oltmann.poker.model.hand.Karte.Wert;
+
+/**
+ * Der HandZustand hält die bisher bekannten Karten eines Spielers (Hole
+ * Cards und Gemeinschaftskarten) als {@link KartenMaske} und wird mit jeder
+ * neuen Karte fortgeschrieben.
+ *
+ * Der Rang ist ein Cache: Mit jeder Karte wird die ganze Maske über den
+ * {@link HandBewerter} neu bewertet. Das kostet unabhängig von der Anzahl
+ * der Karten nur ein paar Bit-Operationen auf den Wert-Masken der Farben und
+ * erzeugt keine Objekte. Eine Fortschreibung über Zähler pro Farbe und Wert
+ * wäre nicht billiger, da Straßen und Flushes trotzdem die Masken brauchen.
+ * Die Anzahl pro Farbe und Wert wird daher bei Bedarf aus der Maske gezählt.
+ *
+ * Bewertet wird nach den Regeln der {@link Variante} des Tisches.
+ */
+public class HandZustand {
+
+    private Variante variante;
+
+    private long karten = KartenMaske.LEER;
+
+    private int rang;
+
+    public HandZustand() {
+        this(Variante.TEXAS_HOLDEM);
+    }
+
+    public HandZustand(Variante variante) {
+        this.variante = variante;
+    }
+
+    public void fuegeHinzu(Karte karte) {
+
+        long maske = KartenMaske.von(karte);
+
+        if ((karten & maske) != 0)
+            throw new IllegalArgumentException("Karte " + karte + " ist bereits enthalten.");
+
+        karten |= maske;
+
+        rang = variante.bewerte(karten);
+    }
+
+    /**
+     * Setzt den Zustand für eine neue Hand nach den Regeln der Variante
+     * zurück.
+     */
+    public void zuruecksetzen(Variante variante) {
+
+        this.variante = variante;
+
+        zuruecksetzen();
+    }
+
+    public void zuruecksetzen() {
+
+        karten = KartenMaske.LEER;
+
+        rang = 0;
+    }
+
+    /*
+     * Abfragen
+     */
+
+    public Variante getVariante() {
+        return variante;
+    }
+
+    public long getKarten() {
+        return karten;
+    }
+
+    public int getAnzahlKarten() {
+        return KartenMaske.getAnzahl(karten);
+    }
+
+    public int getAnzahl(Farbe farbe) {
+        return Integer.bitCount(KartenMaske.getWertMaske(karten, farbe));
+    }
+
+    public int getAnzahl(Wert wert) {
+        return KartenMaske.getAnzahl(KartenMaske.getKartenMitWert(karten, wert));
+    }
+
+    /**
+     * Der Rang der besten Hand wie bei {@link Variante#bewerte(long)} oder 0,
+     * falls noch keine Karten bekannt sind.
+     */
+    public int getRang() {
+        return rang;
+    }
+
+    /**
+     * Die aktuell beste Kombination oder null, falls noch keine Karten
+     * bekannt sind.
+     */
+    public Kombination getKombination() {
+
+        if (karten == KartenMaske.LEER)
+            return null;
+
+        return variante.getKombination(rang);
+    }
+
+    @Override
+    public String toString() {
+        return "HandZustand " + getKombination() + " (" + KartenMaske.toString(karten) + ")";
+    }
+}
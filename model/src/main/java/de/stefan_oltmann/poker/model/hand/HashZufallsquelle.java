@@ -0,0 +1,119 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Eine Zufallsquelle mit festem Seed von mindestens 256 Bit. Die Zahlen sind
+ * die Blöcke SHA-256(Seed || Zähler) für einen fortlaufenden Zähler. So kann
+ * jede der 52! Reihenfolgen eines Decks vorkommen, was mit einem Seed von 64
+ * Bit nicht möglich ist, und die Hand lässt sich trotzdem nachspielen.
+ */
+final class HashZufallsquelle implements Zufallsquelle {
+
+    private static final int BLOCK_LAENGE = 32;
+
+    private static final long WERTEBEREICH = 1L << 32;
+
+    private final MessageDigest sha256;
+
+    private final byte[] seed;
+
+    private final byte[] block = new byte[BLOCK_LAENGE];
+
+    /* Bereits verbrauchte Bytes des aktuellen Blocks */
+    private int position = BLOCK_LAENGE;
+
+    private long zaehler;
+
+    HashZufallsquelle(byte[] seed) {
+
+        if (seed.length < SICHERER_SEED_LAENGE)
+            throw new IllegalArgumentException("Seed braucht mindestens " + SICHERER_SEED_LAENGE * 8
+                    + " Bit, hat aber nur " + seed.length * 8);
+
+        this.seed = seed.clone();
+
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 ist nicht verfügbar.", e);
+        }
+    }
+
+    @Override
+    public int naechsterInt(int grenze) {
+
+        if (grenze <= 0)
+            throw new IllegalArgumentException("Grenze muss positiv sein: " + grenze);
+
+        /*
+         * Werte oberhalb des letzten vollständigen Vielfachen der Grenze
+         * werden verworfen, damit jede Zahl gleich wahrscheinlich ist.
+         */
+        long obergrenze = WERTEBEREICH - WERTEBEREICH % grenze;
+
+        long wert;
+
+        do {
+            wert = naechsteBits() & 0xFFFFFFFFL;
+        } while (wert >= obergrenze);
+
+        return (int) (wert % grenze);
+    }
+
+    private int naechsteBits() {
+
+        if (position == BLOCK_LAENGE)
+            naechsterBlock();
+
+        int bits = (block[position] & 0xFF) << 24
+                | (block[position + 1] & 0xFF) << 16
+                | (block[position + 2] & 0xFF) << 8
+                | block[position + 3] & 0xFF;
+
+        position += 4;
+
+        return bits;
+    }
+
+    private void naechsterBlock() {
+
+        sha256.update(seed);
+
+        for (int shift = 56; shift >= 0; shift -= 8)
+            sha256.update((byte) (zaehler >>> shift));
+
+        zaehler++;
+
+        try {
+            sha256.digest(block, 0, BLOCK_LAENGE);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+
+        position = 0;
+    }
+}
@@ -0,0 +1,217 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+/**
+ * Der KartenCodec bildet jede Karte auf kompakte Darstellungen ab:
+ *
+ * 1) Der Index von 0 bis 51 ist die Ordinalzahl der Karte, also sortiert nach
+ * Farbe und absteigendem Wert wie in {@link Karte#values()}.
+ *
+ * 2) Als byte ist es derselbe Index. So speichert z.B. das {@link Deck} seine
+ * Karten und so lassen sie sich kompakt übertragen oder ablegen.
+ *
+ * 3) Der Bit-Index ist die Position der Karte in einer {@link KartenMaske}.
+ *
+ * Wert, Farbe, Primzahl, Bit-Index und Maske jeder Karte liegen in statischen
+ * Tabellen nach Index, damit schnelle Pfade ohne Enum-Zugriffe und ohne
+ * Objekt-Erzeugung auskommen. Anders als {@link Karte#values()} wird dabei
+ * kein Array kopiert.
+ */
+public final class KartenCodec {
+
+    public static final int ANZAHL_KARTEN = 52;
+
+    /* Markiert Bits der KartenMaske, die keine Karte sind */
+    private static final byte KEINE_KARTE = -1;
+
+    /** Die Primzahl jedes Rangs von der Zwei bis zum Ass */
+    static final int[] PRIMZAHLEN = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41 };
+
+    private static final Karte[] KARTEN = Karte.values();
+
+    /*
+     * Die Tabellen nach Index
+     */
+
+    /* Rang in aufsteigender Reihenfolge: Zwei = 0, Ass = 12 */
+    private static final byte[] RANG = new byte[ANZAHL_KARTEN];
+
+    /* Ordinalzahl der Farbe */
+    private static final byte[] FARBE = new byte[ANZAHL_KARTEN];
+
+    /* Primzahl des Werts, siehe FuenfKartenBewerter */
+    private static final int[] PRIMZAHL = new int[ANZAHL_KARTEN];
+
+    private static final byte[] BIT_INDEX = new byte[ANZAHL_KARTEN];
+
+    private static final long[] MASKE = new long[ANZAHL_KARTEN];
+
+    /* Der Index nach Bit-Index */
+    private static final byte[] INDEX_VON_BIT = new byte[64];
+
+    static {
+
+        Arrays.fill(INDEX_VON_BIT, KEINE_KARTE);
+
+        for (Karte karte : KARTEN) {
+
+            int index = karte.ordinal();
+
+            int rang = 12 - karte.wert.ordinal();
+            int bitIndex = karte.farbe.ordinal() * KartenMaske.BITS_PRO_FARBE + rang;
+
+            RANG[index] = (byte) rang;
+            FARBE[index] = (byte) karte.farbe.ordinal();
+            PRIMZAHL[index] = PRIMZAHLEN[rang];
+            BIT_INDEX[index] = (byte) bitIndex;
+            MASKE[index] = 1L << bitIndex;
+
+            INDEX_VON_BIT[bitIndex] = (byte) index;
+        }
+    }
+
+    private KartenCodec() {
+        /* Nur statische Methoden */
+    }
+
+    /*
+     * Karte, Index und byte
+     */
+
+    public static int getIndex(Karte karte) {
+        return karte.ordinal();
+    }
+
+    public static Karte getKarte(int index) {
+        return KARTEN[index];
+    }
+
+    public static byte toByte(Karte karte) {
+        return (byte) karte.ordinal();
+    }
+
+    public static Karte vonByte(byte code) {
+        return KARTEN[code];
+    }
+
+    /*
+     * Tabellen nach Index
+     */
+
+    public static int getRang(int index) {
+        return RANG[index];
+    }
+
+    public static int getFarbe(int index) {
+        return FARBE[index];
+    }
+
+    public static int getPrimzahl(int index) {
+        return PRIMZAHL[index];
+    }
+
+    public static int getBitIndex(int index) {
+        return BIT_INDEX[index];
+    }
+
+    public static long getMaske(int index) {
+        return MASKE[index];
+    }
+
+    /**
+     * Der Index der Karte an diesem Bit der {@link KartenMaske}.
+     */
+    public static int getIndexVonBit(int bitIndex) {
+
+        int index = bitIndex >= 0 && bitIndex < INDEX_VON_BIT.length ? INDEX_VON_BIT[bitIndex] : KEINE_KARTE;
+
+        if (index == KEINE_KARTE)
+            throw new IllegalArgumentException("Ungültiger Bit-Index: " + bitIndex);
+
+        return index;
+    }
+
+    /*
+     * Umwandlung zwischen Maske und bytes
+     */
+
+    /**
+     * Die Karten der Maske als bytes in der Reihenfolge von
+     * {@link Karte#values()}.
+     */
+    public static byte[] toBytes(long maske) {
+
+        byte[] codes = new byte[KartenMaske.getAnzahl(maske)];
+
+        int i = 0;
+
+        for (int farbe = 0; farbe < 4; farbe++) {
+
+            int werte = (int) (maske >>> (farbe * KartenMaske.BITS_PRO_FARBE)) & KartenMaske.WERT_BITS;
+
+            /* Vom Ass abwärts, wie die Ordinalzahlen */
+            for (; werte != 0; werte &= ~Integer.highestOneBit(werte))
+                codes[i++] = INDEX_VON_BIT[farbe * KartenMaske.BITS_PRO_FARBE
+                        + 31 - Integer.numberOfLeadingZeros(werte)];
+        }
+
+        return codes;
+    }
+
+    public static long vonBytes(byte[] codes) {
+
+        long maske = KartenMaske.LEER;
+
+        for (byte code : codes)
+            maske |= MASKE[code];
+
+        return maske;
+    }
+
+    /*
+     * Umwandlung zwischen Maske und EnumSet
+     */
+
+    public static EnumSet<Karte> toEnumSet(long maske) {
+
+        EnumSet<Karte> karten = EnumSet.noneOf(Karte.class);
+
+        for (long rest = maske; rest != 0; rest &= rest - 1)
+            karten.add(KARTEN[getIndexVonBit(Long.numberOfTrailingZeros(rest))]);
+
+        return karten;
+    }
+
+    public static long vonEnumSet(EnumSet<Karte> karten) {
+
+        long maske = KartenMaske.LEER;
+
+        for (Karte karte : karten)
+            maske |= MASKE[karte.ordinal()];
+
+        return maske;
+    }
+}
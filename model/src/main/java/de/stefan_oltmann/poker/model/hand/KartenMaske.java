@@ -0,0 +1,164 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+import de.stefan_oltmann.poker.model.hand.Karte.Farbe;
+
+/**
+ * Eine KartenMaske ist eine Menge von Karten, die als einzelner long
+ * dargestellt wird. Jede Farbe belegt dabei 16 Bit, von denen die unteren
+ * 13 Bit die Werte sind (Bit 0 = Zwei, Bit 12 = Ass). Damit lässt sich die
+ * Wert-Maske einer Farbe mit einem Shift herauslösen und Mengen-Operationen
+ * sind einfache Bit-Operationen ohne jede Objekt-Erzeugung.
+ */
+public final class KartenMaske {
+
+    /** Die leere Menge */
+    public static final long LEER = 0L;
+
+    /** Alle 52 Karten des Decks */
+    public static final long ALLE = 0x1FFF1FFF1FFF1FFFL;
+
+    /** Die 13 Bits der Werte innerhalb einer Farbe */
+    public static final int WERT_BITS = 0x1FFF;
+
+    /** Jede Farbe belegt 16 Bit */
+    static final int BITS_PRO_FARBE = 16;
+
+    private KartenMaske() {
+        /* Nur statische Methoden */
+    }
+
+    /*
+     * Umwandlung
+     */
+
+    /**
+     * Die Position der Karte in der Maske.
+     */
+    public static int getBitIndex(Karte karte) {
+        return KartenCodec.getBitIndex(karte.ordinal());
+    }
+
+    /**
+     * Der Rang eines Werts in aufsteigender Reihenfolge: Zwei = 0, Ass = 12.
+     * Der Wert ist nach Ordinal absteigend sortiert, weshalb hier umgedreht
+     * werden muss.
+     */
+    public static int getRang(Karte.Wert wert) {
+        return 12 - wert.ordinal();
+    }
+
+    public static Karte getKarte(int bitIndex) {
+        return KartenCodec.getKarte(KartenCodec.getIndexVonBit(bitIndex));
+    }
+
+    public static long von(Karte karte) {
+        return KartenCodec.getMaske(karte.ordinal());
+    }
+
+    public static long von(Karte... karten) {
+
+        long maske = LEER;
+
+        for (Karte karte : karten)
+            maske |= von(karte);
+
+        return maske;
+    }
+
+    public static long von(Collection<Karte> karten) {
+
+        long maske = LEER;
+
+        for (Karte karte : karten)
+            maske |= von(karte);
+
+        return maske;
+    }
+
+    /**
+     * Liefert die Karten der Maske sortiert nach Farbe und absteigendem Wert,
+     * also in der Reihenfolge von {@link Karte#values()}.
+     */
+    public static List<Karte> getKarten(long maske) {
+
+        List<Karte> karten = new ArrayList<Karte>(getAnzahl(maske));
+
+        for (byte code : KartenCodec.toBytes(maske))
+            karten.add(KartenCodec.vonByte(code));
+
+        return karten;
+    }
+
+    public static EnumSet<Karte> getKartenSet(long maske) {
+        return KartenCodec.toEnumSet(maske);
+    }
+
+    /*
+     * Abfragen
+     */
+
+    public static boolean enthaelt(long maske, Karte karte) {
+        return (maske & von(karte)) != 0;
+    }
+
+    public static int getAnzahl(long maske) {
+        return Long.bitCount(maske);
+    }
+
+    /**
+     * Die 13-Bit-Wert-Maske einer einzelnen Farbe.
+     */
+    public static int getWertMaske(long maske, Farbe farbe) {
+        return (int) (maske >>> (farbe.ordinal() * BITS_PRO_FARBE)) & WERT_BITS;
+    }
+
+    /**
+     * Alle Karten der Maske mit diesem Wert, ohne wie
+     * {@link Karte#findeKartenMitWert} eine Liste zu erzeugen.
+     */
+    public static long getKartenMitWert(long maske, Karte.Wert wert) {
+        return maske & (0x0001000100010001L << getRang(wert));
+    }
+
+    /**
+     * Die 13-Bit-Wert-Maske über alle Farben hinweg. Ein Bit ist gesetzt,
+     * wenn mindestens eine Karte dieses Werts enthalten ist.
+     */
+    public static int getWertMaske(long maske) {
+
+        return (int) (maske
+                | maske >>> BITS_PRO_FARBE
+                | maske >>> (2 * BITS_PRO_FARBE)
+                | maske >>> (3 * BITS_PRO_FARBE)) & WERT_BITS;
+    }
+
+    public static String toString(long maske) {
+        return getKarten(maske).toString();
+    }
+}
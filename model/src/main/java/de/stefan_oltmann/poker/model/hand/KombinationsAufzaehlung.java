@@ -0,0 +1,169 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Zählt exakt, wie häufig jede {@link Kombination} unter allen Händen aus
+ * fünf bis sieben Karten vorkommt. Das sind 2.598.960 Hände aus fünf und
+ * 133.784.560 Hände aus sieben Karten.
+ *
+ * Die Hände werden in aufsteigender Reihenfolge der Karten durchlaufen,
+ * wobei die Maske Karte für Karte erweitert wird. Verteilt werden die
+ * 1.326 möglichen ersten beiden Karten auf den {@link ForkJoinPool}. Nur
+ * nach der ersten Karte wären die Aufgaben zu ungleich groß, da allein die
+ * Hände mit der ersten Karte ein Siebtel aller Hände ausmachen.
+ *
+ * Die Ergebnisse dienen den Tests als Referenz und die Aufzählung selbst
+ * als Last-Test für die Bewerter.
+ *
+ * Aufruf: KombinationsAufzaehlung [Anzahl Karten]
+ */
+public class KombinationsAufzaehlung {
+
+    /* Die ersten beiden Karten jeder Aufgabe als Ordinalzahlen */
+    private static final int[] ERSTE_KARTE;
+    private static final int[] ZWEITE_KARTE;
+
+    static {
+
+        int anzahlPaare = Deck.ANZAHL_KARTEN * (Deck.ANZAHL_KARTEN - 1) / 2;
+
+        ERSTE_KARTE = new int[anzahlPaare];
+        ZWEITE_KARTE = new int[anzahlPaare];
+
+        int paar = 0;
+
+        for (int erste = 0; erste < Deck.ANZAHL_KARTEN; erste++) {
+            for (int zweite = erste + 1; zweite < Deck.ANZAHL_KARTEN; zweite++, paar++) {
+                ERSTE_KARTE[paar] = erste;
+                ZWEITE_KARTE[paar] = zweite;
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    private final LongFunction<Kombination> bewerter;
+
+    public KombinationsAufzaehlung() {
+        this(ForkJoinPool.commonPool(), KombinationsSimulation.HAND_BEWERTER);
+    }
+
+    public KombinationsAufzaehlung(ForkJoinPool pool, LongFunction<Kombination> bewerter) {
+        this.pool = pool;
+        this.bewerter = bewerter;
+    }
+
+    /**
+     * Bewertet alle Hände aus "anzahlKarten" Karten.
+     */
+    public KombinationsStatistik zaehle(int anzahlKarten) {
+
+        if (anzahlKarten < 5 || anzahlKarten > 7)
+            throw new IllegalArgumentException("Es können nur 5 bis 7 Karten bewertet werden: " + anzahlKarten);
+
+        long start = System.nanoTime();
+
+        long[] haeufigkeiten = pool.invoke(
+                new Aufgabe(0, ERSTE_KARTE.length, anzahlKarten, bewerter));
+
+        return new KombinationsStatistik(haeufigkeiten, true, System.nanoTime() - start);
+    }
+
+    public static void main(String[] args) {
+
+        int anzahlKarten = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+
+        System.out.println("Alle Hände aus " + anzahlKarten + " Karten auf "
+                + ForkJoinPool.commonPool().getParallelism() + " Threads");
+
+        System.out.println(new KombinationsAufzaehlung().zaehle(anzahlKarten));
+    }
+
+    private static class Aufgabe extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        /* Bereich der Paare aus ERSTE_KARTE und ZWEITE_KARTE */
+        private final int von;
+        private final int bis;
+
+        private final int anzahlKarten;
+        private final LongFunction<Kombination> bewerter;
+
+        Aufgabe(int von, int bis, int anzahlKarten, LongFunction<Kombination> bewerter) {
+
+            this.von = von;
+            this.bis = bis;
+            this.anzahlKarten = anzahlKarten;
+            this.bewerter = bewerter;
+        }
+
+        @Override
+        protected long[] compute() {
+
+            if (bis - von > 1) {
+
+                int mitte = (von + bis) >>> 1;
+
+                Aufgabe links = new Aufgabe(von, mitte, anzahlKarten, bewerter);
+                Aufgabe rechts = new Aufgabe(mitte, bis, anzahlKarten, bewerter);
+
+                links.fork();
+
+                long[] haeufigkeiten = rechts.compute();
+                long[] linkeHaeufigkeiten = links.join();
+
+                for (int i = 0; i < haeufigkeiten.length; i++)
+                    haeufigkeiten[i] += linkeHaeufigkeiten[i];
+
+                return haeufigkeiten;
+            }
+
+            long[] haeufigkeiten = new long[Kombination.values().length];
+
+            long maske = KartenCodec.getMaske(ERSTE_KARTE[von]) | KartenCodec.getMaske(ZWEITE_KARTE[von]);
+
+            zaehle(maske, ZWEITE_KARTE[von] + 1, anzahlKarten - 2, haeufigkeiten);
+
+            return haeufigkeiten;
+        }
+
+        private void zaehle(long maske, int naechsteKarte, int restlicheKarten, long[] haeufigkeiten) {
+
+            if (restlicheKarten == 0) {
+                haeufigkeiten[bewerter.apply(maske).ordinal()]++;
+                return;
+            }
+
+            /* Es müssen noch genug Karten für den Rest der Hand übrig bleiben. */
+            for (int karte = naechsteKarte; karte <= Deck.ANZAHL_KARTEN - restlicheKarten; karte++)
+                zaehle(maske | KartenCodec.getMaske(karte), karte + 1, restlicheKarten - 1, haeufigkeiten);
+        }
+    }
+}
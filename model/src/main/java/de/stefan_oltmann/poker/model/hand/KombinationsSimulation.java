@@ -0,0 +1,159 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Simuliert zufällige Hände und zählt, wie häufig jede {@link Kombination}
+ * vorkommt.
+ *
+ * Die Durchläufe werden rekursiv halbiert und auf den {@link ForkJoinPool}
+ * verteilt. Jede Aufgabe bekommt einen eigenen, abgespaltenen
+ * {@link SplittableRandom}, ein eigenes {@link Deck} und ein eigenes
+ * Histogramm, die erst am Ende zusammengezählt werden. Da die Aufteilung nur
+ * von der Anzahl Durchläufe abhängt, liefert derselbe Seed unabhängig von
+ * der Anzahl Threads dasselbe Ergebnis.
+ *
+ * Aufruf: KombinationsSimulation [Durchläufe] [Anzahl Karten] [Seed]
+ */
+public class KombinationsSimulation {
+
+    /** Bewertet über den {@link HandBewerter}. */
+    public static final LongFunction<Kombination> HAND_BEWERTER =
+            karten -> HandBewerter.getKombination(HandBewerter.bewerte(karten));
+
+    /**
+     * Bewertet die Karten, die {@link Hand#getKarten()} für die beste Hand
+     * auswählt, um deren Auswahl mit dem {@link HandBewerter} zu vergleichen.
+     */
+    public static final LongFunction<Kombination> HAND =
+            karten -> HandBewerter.getKombination(HandBewerter.bewerte(Hand.berechneBesteHand(karten).getKarten()));
+
+    private static final int DURCHLAEUFE_PRO_AUFGABE = 100000;
+
+    private final ForkJoinPool pool;
+
+    private final LongFunction<Kombination> bewerter;
+
+    public KombinationsSimulation() {
+        this(ForkJoinPool.commonPool(), HAND_BEWERTER);
+    }
+
+    public KombinationsSimulation(ForkJoinPool pool, LongFunction<Kombination> bewerter) {
+        this.pool = pool;
+        this.bewerter = bewerter;
+    }
+
+    /**
+     * Teilt so viele Hände aus "anzahlKarten" Karten aus wie gewünscht und
+     * zählt deren Kombinationen.
+     */
+    public KombinationsStatistik simuliere(long durchlaeufe, int anzahlKarten, long seed) {
+
+        if (anzahlKarten < 5 || anzahlKarten > 7)
+            throw new IllegalArgumentException("Es können nur 5 bis 7 Karten bewertet werden: " + anzahlKarten);
+
+        long start = System.nanoTime();
+
+        long[] haeufigkeiten = pool.invoke(
+                new Aufgabe(durchlaeufe, anzahlKarten, new SplittableRandom(seed), bewerter));
+
+        return new KombinationsStatistik(haeufigkeiten, false, System.nanoTime() - start);
+    }
+
+    public static void main(String[] args) {
+
+        long durchlaeufe = args.length > 0 ? Long.parseLong(args[0]) : 10000000;
+        int anzahlKarten = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        System.out.println(durchlaeufe + " Hände aus " + anzahlKarten + " Karten auf "
+                + ForkJoinPool.commonPool().getParallelism() + " Threads, Seed " + seed);
+
+        System.out.println(new KombinationsSimulation().simuliere(durchlaeufe, anzahlKarten, seed));
+    }
+
+    private static class Aufgabe extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long durchlaeufe;
+        private final int anzahlKarten;
+        private final SplittableRandom random;
+        private final LongFunction<Kombination> bewerter;
+
+        Aufgabe(long durchlaeufe, int anzahlKarten, SplittableRandom random,
+                LongFunction<Kombination> bewerter) {
+
+            this.durchlaeufe = durchlaeufe;
+            this.anzahlKarten = anzahlKarten;
+            this.random = random;
+            this.bewerter = bewerter;
+        }
+
+        @Override
+        protected long[] compute() {
+
+            if (durchlaeufe > DURCHLAEUFE_PRO_AUFGABE) {
+
+                long haelfte = durchlaeufe / 2;
+
+                Aufgabe links = new Aufgabe(haelfte, anzahlKarten, random.split(), bewerter);
+                Aufgabe rechts = new Aufgabe(durchlaeufe - haelfte, anzahlKarten, random.split(), bewerter);
+
+                links.fork();
+
+                long[] haeufigkeiten = rechts.compute();
+                long[] linkeHaeufigkeiten = links.join();
+
+                for (int i = 0; i < haeufigkeiten.length; i++)
+                    haeufigkeiten[i] += linkeHaeufigkeiten[i];
+
+                return haeufigkeiten;
+            }
+
+            long[] haeufigkeiten = new long[Kombination.values().length];
+
+            Deck deck = new Deck(random::nextInt);
+
+            for (long d = 0; d < durchlaeufe; d++) {
+
+                deck.neuMischen();
+
+                long karten = KartenMaske.LEER;
+
+                for (int i = 0; i < anzahlKarten; i++)
+                    karten |= KartenCodec.getMaske(deck.hebeKartenIndexAb());
+
+                haeufigkeiten[bewerter.apply(karten).ordinal()]++;
+            }
+
+            return haeufigkeiten;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Locale;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Wie häufig jede {@link Kombination} unter einer Anzahl Hände vorkommt,
+ * entweder per Simulation geschätzt oder exakt durchgezählt.
+ */
+public class KombinationsStatistik {
+
+    /* z-Wert für ein Konfidenzintervall von 95 % */
+    private static final double Z_95 = 1.96;
+
+    /* Index ist Kombination.ordinal() */
+    private final long[] haeufigkeiten;
+
+    private final long anzahlHaende;
+
+    /* false, falls die Häufigkeiten per Simulation geschätzt wurden */
+    private final boolean exakt;
+
+    private final long dauerNanos;
+
+    KombinationsStatistik(long[] haeufigkeiten, boolean exakt, long dauerNanos) {
+
+        this.haeufigkeiten = haeufigkeiten;
+        this.exakt = exakt;
+        this.dauerNanos = dauerNanos;
+
+        long summe = 0;
+
+        for (long haeufigkeit : haeufigkeiten)
+            summe += haeufigkeit;
+
+        this.anzahlHaende = summe;
+    }
+
+    public long getAnzahlHaende() {
+        return anzahlHaende;
+    }
+
+    public long getHaeufigkeit(Kombination kombination) {
+        return haeufigkeiten[kombination.ordinal()];
+    }
+
+    /**
+     * Der Anteil der Hände mit dieser Kombination von 0 bis 1.
+     */
+    public double getAnteil(Kombination kombination) {
+        return (double) getHaeufigkeit(kombination) / anzahlHaende;
+    }
+
+    /**
+     * Der Standardfehler des geschätzten Anteils, bei exakten Zahlen 0.
+     */
+    public double getStandardfehler(Kombination kombination) {
+
+        if (exakt)
+            return 0;
+
+        double anteil = getAnteil(kombination);
+
+        return Math.sqrt(anteil * (1 - anteil) / anzahlHaende);
+    }
+
+    /**
+     * Die halbe Breite des 95-%-Konfidenzintervalls um den Anteil.
+     */
+    public double getKonfidenzintervall(Kombination kombination) {
+        return Z_95 * getStandardfehler(kombination);
+    }
+
+    public boolean isExakt() {
+        return exakt;
+    }
+
+    public long getDauerNanos() {
+        return dauerNanos;
+    }
+
+    public double getHaendeProSekunde() {
+        return dauerNanos > 0 ? anzahlHaende * 1e9 / dauerNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (Kombination kombination : Kombination.values()) {
+
+            sb.append(String.format(Locale.GERMAN, "%-16s %12d %9.5f %%", kombination.getBezeichnung(),
+                    getHaeufigkeit(kombination), getAnteil(kombination) * 100));
+
+            if (!exakt)
+                sb.append(String.format(Locale.GERMAN, " ± %.5f %%", getKonfidenzintervall(kombination) * 100));
+
+            sb.append(String.format("%n"));
+        }
+
+        sb.append(String.format(Locale.GERMAN, "%d Hände in %d ms (%.0f Hände/s)%s", anzahlHaende,
+                dauerNanos / 1000000, getHaendeProSekunde(), exakt ? ", exakt" : ""));
+
+        return sb.toString();
+    }
+}
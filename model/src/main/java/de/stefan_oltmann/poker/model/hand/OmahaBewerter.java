@@ -0,0 +1,164 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Collection;
+
+/**
+ * Bewertet Hände beim (Pot-Limit) Omaha. Jeder Spieler hat vier Hole Cards
+ * und muss genau zwei davon mit genau drei Gemeinschaftskarten kombinieren.
+ * Bei vollem Board sind das 6 * 10 = 60 Kombinationen aus fünf Karten.
+ *
+ * Die Kombinationen werden über feste Index-Tabellen aufgezählt. Für jedes
+ * Paar aus Hole Cards und jeden Drilling aus dem Board werden Maske und
+ * Primzahl-Produkt einmal gebildet; pro Kombination bleiben eine
+ * Multiplikation und ein Tabellenzugriff im {@link FuenfKartenBewerter}.
+ * Kann keine Farbe auf drei Board- und zwei Hole Cards kommen, entfällt die
+ * Flush-Prüfung ganz.
+ *
+ * Das Ergebnis ist ein Rang wie beim {@link HandBewerter}.
+ */
+public final class OmahaBewerter {
+
+    public static final int ANZAHL_HOLE_CARDS = 4;
+
+    /* Alle Paare aus den vier Hole Cards */
+    private static final int[][] HOLE_CARD_PAARE = {
+            { 0, 1 }, { 0, 2 }, { 0, 3 }, { 1, 2 }, { 1, 3 }, { 2, 3 } };
+
+    /*
+     * Alle Drillinge aus fünf Board-Karten, sortiert nach der höchsten
+     * Position. Die ersten 1 bzw. 4 Einträge sind damit genau die Drillinge
+     * für Flop bzw. Turn.
+     */
+    private static final int[][] BOARD_DRILLINGE = {
+            { 0, 1, 2 },
+            { 0, 1, 3 }, { 0, 2, 3 }, { 1, 2, 3 },
+            { 0, 1, 4 }, { 0, 2, 4 }, { 1, 2, 4 }, { 0, 3, 4 }, { 1, 3, 4 }, { 2, 3, 4 } };
+
+    /* Index ist die Anzahl der Board-Karten */
+    private static final int[] ANZAHL_DRILLINGE = { 0, 0, 0, 1, 4, 10 };
+
+    private static final int FARB_BITS = 16;
+
+    private OmahaBewerter() {
+        /* Nur statische Methoden */
+    }
+
+    public static int bewerte(Collection<Karte> holeCards, Collection<Karte> board) {
+        return bewerte(KartenMaske.von(holeCards), KartenMaske.von(board));
+    }
+
+    /**
+     * Liefert den besten Rang aus genau zwei der vier Hole Cards und genau
+     * drei der drei bis fünf Board-Karten.
+     */
+    public static int bewerte(long holeCards, long board) {
+
+        if (Long.bitCount(holeCards) != ANZAHL_HOLE_CARDS)
+            throw new IllegalArgumentException("Es müssen genau 4 Hole Cards sein: "
+                    + KartenMaske.toString(holeCards));
+
+        int anzahlBoardKarten = Long.bitCount(board);
+
+        if (anzahlBoardKarten < 3 || anzahlBoardKarten > 5)
+            throw new IllegalArgumentException("Das Board muss 3 bis 5 Karten haben: "
+                    + KartenMaske.toString(board));
+
+        if ((holeCards & board) != 0)
+            throw new IllegalArgumentException("Karten doppelt: " + KartenMaske.toString(holeCards & board));
+
+        int[] hole = bitIndizes(holeCards, ANZAHL_HOLE_CARDS);
+        int[] boardIndizes = bitIndizes(board, anzahlBoardKarten);
+
+        int anzahlDrillinge = ANZAHL_DRILLINGE[anzahlBoardKarten];
+
+        long[] drillingMasken = new long[anzahlDrillinge];
+        int[] drillingProdukte = new int[anzahlDrillinge];
+
+        for (int d = 0; d < anzahlDrillinge; d++) {
+
+            int[] drilling = BOARD_DRILLINGE[d];
+
+            for (int i : drilling)
+                drillingMasken[d] |= 1L << boardIndizes[i];
+
+            drillingProdukte[d] = FuenfKartenBewerter.getPrimzahl(boardIndizes[drilling[0]])
+                    * FuenfKartenBewerter.getPrimzahl(boardIndizes[drilling[1]])
+                    * FuenfKartenBewerter.getPrimzahl(boardIndizes[drilling[2]]);
+        }
+
+        boolean flushMoeglich = isFlushMoeglich(holeCards, board);
+
+        int besterRang = 0;
+
+        for (int[] paar : HOLE_CARD_PAARE) {
+
+            long paarMaske = 1L << hole[paar[0]] | 1L << hole[paar[1]];
+
+            int paarProdukt = FuenfKartenBewerter.getPrimzahl(hole[paar[0]])
+                    * FuenfKartenBewerter.getPrimzahl(hole[paar[1]]);
+
+            for (int d = 0; d < anzahlDrillinge; d++) {
+
+                int rang = FuenfKartenBewerter.bewerte(paarMaske | drillingMasken[d],
+                        paarProdukt * drillingProdukte[d], flushMoeglich);
+
+                if (rang > besterRang)
+                    besterRang = rang;
+            }
+        }
+
+        return besterRang;
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    /* Ein Flush braucht eine Farbe mit drei Board- und zwei Hole Cards. */
+    private static boolean isFlushMoeglich(long holeCards, long board) {
+
+        for (int farbe = 0; farbe < 64; farbe += FARB_BITS) {
+
+            int boardKarten = Integer.bitCount((int) (board >>> farbe) & KartenMaske.WERT_BITS);
+            int holeCardKarten = Integer.bitCount((int) (holeCards >>> farbe) & KartenMaske.WERT_BITS);
+
+            if (boardKarten >= 3 && holeCardKarten >= 2)
+                return true;
+        }
+
+        return false;
+    }
+
+    private static int[] bitIndizes(long maske, int anzahl) {
+
+        int[] indizes = new int[anzahl];
+
+        for (int i = 0; i < anzahl; i++) {
+            indizes[i] = Long.numberOfTrailingZeros(maske);
+            maske &= maske - 1;
+        }
+
+        return indizes;
+    }
+}
@@ -0,0 +1,295 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Die OutsAnalyse bestimmt am Flop oder Turn, welche der noch unbekannten
+ * Karten die Hand eines Spielers auf eine bessere {@link Kombination} heben.
+ * Dazu werden die Wert-Masken der vier Farben sowie die Masken der Paare,
+ * Drillinge und Vierlinge einmal für die bekannten Karten und für das Board
+ * aufgebaut. Jede verbleibende Karte ändert davon nur ihre Farbe und ihren
+ * Wert, so dass sich die neue Kombination ohne vollständige Bewertung und
+ * ohne Objekte ergibt. Die Outs werden als Maske pro Kombination gesammelt.
+ * Karten, die nur das Board selbst verbessern (z.B. ein Drilling auf einem
+ * gepaarten Board oder die fünfte Karte einer Farbe), zählen nicht, da sie
+ * allen Spielern gleichermaßen helfen.
+ *
+ * Zusätzlich werden die üblichen Draws über die Wert- und Farb-Masken
+ * erkannt: Flush Draw (vier Karten einer Farbe), Open Ender (zwei Werte
+ * vervollständigen eine Straße), Gutshot (genau ein Wert) sowie am Flop die
+ * Backdoor-Draws, für die Turn und River passen müssen. Ein Draw zählt nur,
+ * wenn mindestens eine der Hole Cards daran beteiligt ist.
+ */
+public final class OutsAnalyse {
+
+    private static final int ANZAHL_FARBEN = 4;
+
+    private final long holeCards;
+    private final long board;
+
+    private final int rang;
+
+    /* Wert-Masken pro Farbe, Index ist die Farbe wie in der KartenMaske */
+    private final int[] farben = new int[ANZAHL_FARBEN];
+    private final int[] boardFarben = new int[ANZAHL_FARBEN];
+
+    /* Index ist Kombination.getWert() */
+    private final long[] outsProKombination = new long[11];
+
+    private long outs;
+
+    private boolean flushDraw;
+    private boolean openEnder;
+    private boolean gutshot;
+    private boolean backdoorFlushDraw;
+    private boolean backdoorStrassenDraw;
+
+    private OutsAnalyse(long holeCards, long board) {
+        this.holeCards = holeCards;
+        this.board = board;
+        this.rang = HandBewerter.bewerte(holeCards | board);
+
+        for (int farbe = 0; farbe < ANZAHL_FARBEN; farbe++) {
+
+            int shift = farbe * KartenMaske.BITS_PRO_FARBE;
+
+            farben[farbe] = (int) ((holeCards | board) >>> shift) & KartenMaske.WERT_BITS;
+            boardFarben[farbe] = (int) (board >>> shift) & KartenMaske.WERT_BITS;
+        }
+    }
+
+    public static OutsAnalyse analysiere(long holeCards, long board) {
+
+        int boardKarten = KartenMaske.getAnzahl(board);
+
+        if (KartenMaske.getAnzahl(holeCards) != 2 || (holeCards & board) != 0)
+            throw new IllegalArgumentException("Ungültige Hole Cards: " + KartenMaske.toString(holeCards));
+
+        if (boardKarten != 3 && boardKarten != 4)
+            throw new IllegalArgumentException("Outs gibt es nur am Flop und Turn: "
+                    + KartenMaske.toString(board));
+
+        OutsAnalyse analyse = new OutsAnalyse(holeCards, board);
+
+        analyse.zaehleOuts();
+        analyse.erkenneDraws(boardKarten == 3);
+
+        return analyse;
+    }
+
+    /*
+     * Abfragen
+     */
+
+    public long getHoleCards() {
+        return holeCards;
+    }
+
+    public long getBoard() {
+        return board;
+    }
+
+    public int getRang() {
+        return rang;
+    }
+
+    public Kombination getKombination() {
+        return HandBewerter.getKombination(rang);
+    }
+
+    /**
+     * Alle Karten, mit denen die Hand eine bessere Kombination erreicht.
+     */
+    public long getOuts() {
+        return outs;
+    }
+
+    public int getAnzahlOuts() {
+        return KartenMaske.getAnzahl(outs);
+    }
+
+    /**
+     * Die Karten, mit denen die Hand genau diese Kombination erreicht.
+     */
+    public long getOuts(Kombination kombination) {
+        return outsProKombination[kombination.getWert()];
+    }
+
+    public boolean isFlushDraw() {
+        return flushDraw;
+    }
+
+    public boolean isOpenEnder() {
+        return openEnder;
+    }
+
+    public boolean isGutshot() {
+        return gutshot;
+    }
+
+    public boolean isBackdoorFlushDraw() {
+        return backdoorFlushDraw;
+    }
+
+    public boolean isBackdoorStrassenDraw() {
+        return backdoorStrassenDraw;
+    }
+
+    @Override
+    public String toString() {
+        return "OutsAnalyse " + getKombination() + " outs=" + KartenMaske.toString(outs);
+    }
+
+    /*
+     * Berechnung
+     */
+
+    private void zaehleOuts() {
+
+        int kombination = rang >>> HandBewerter.KOMBINATION_SHIFT;
+
+        int alle = oder(farben);
+        int zwei = mindestensZwei(farben);
+        int drei = mindestensDrei(farben);
+        int vier = farben[0] & farben[1] & farben[2] & farben[3];
+        int flush = HandBewerter.findeFlush(farben[0], farben[1], farben[2], farben[3]);
+
+        int boardAlle = oder(boardFarben);
+        int boardZwei = mindestensZwei(boardFarben);
+        int boardDrei = mindestensDrei(boardFarben);
+        int boardVier = boardFarben[0] & boardFarben[1] & boardFarben[2] & boardFarben[3];
+        int boardFlush = HandBewerter.findeFlush(boardFarben[0], boardFarben[1], boardFarben[2], boardFarben[3]);
+
+        for (int farbe = 0; farbe < ANZAHL_FARBEN; farbe++) {
+
+            for (int frei = ~farben[farbe] & KartenMaske.WERT_BITS; frei != 0; frei &= frei - 1) {
+
+                int wert = frei & -frei;
+
+                /*
+                 * Die Karte hebt ihren Wert um eine Stufe (z.B. vom Paar zum
+                 * Drilling) und zählt nur in ihrer eigenen Farbe mit.
+                 */
+                int neueFarbe = farben[farbe] | wert;
+
+                int neueKombination = HandBewerter.bewerteKombination(
+                        Integer.bitCount(neueFarbe) >= 5 ? neueFarbe : flush,
+                        alle | wert, zwei | alle & wert, drei | zwei & wert, vier | drei & wert);
+
+                if (neueKombination <= kombination)
+                    continue;
+
+                int neueBoardFarbe = boardFarben[farbe] | wert;
+
+                int boardKombination = HandBewerter.bewerteKombination(
+                        Integer.bitCount(neueBoardFarbe) >= 5 ? neueBoardFarbe : boardFlush,
+                        boardAlle | wert, boardZwei | boardAlle & wert, boardDrei | boardZwei & wert,
+                        boardVier | boardDrei & wert);
+
+                if (neueKombination > boardKombination) {
+
+                    long karte = (long) wert << farbe * KartenMaske.BITS_PRO_FARBE;
+
+                    outsProKombination[neueKombination] |= karte;
+                    outs |= karte;
+                }
+            }
+        }
+    }
+
+    private void erkenneDraws(boolean flop) {
+
+        /* Flush Draws */
+        for (int farbe = 0; farbe < ANZAHL_FARBEN; farbe++) {
+
+            int anzahl = Integer.bitCount(farben[farbe]);
+
+            /* Ohne Hole Card dieser Farbe stehen alle Karten auf dem Board. */
+            if (farben[farbe] == boardFarben[farbe])
+                continue;
+
+            if (anzahl == 4)
+                flushDraw = true;
+            else if (anzahl == 3 && flop)
+                backdoorFlushDraw = true;
+        }
+
+        /* Straßen-Draws: Welche fehlenden Werte ergeben eine Straße? */
+        int werte = oder(farben);
+        int boardWerte = oder(boardFarben);
+
+        if (HandBewerter.findeStrasse(werte) >= 0)
+            return;
+
+        int einzelneWerte = 0;
+
+        for (int wert = 0; wert < 13; wert++)
+            if ((werte & 1 << wert) == 0 && istStrasseMitHoleCards(werte | 1 << wert, boardWerte | 1 << wert))
+                einzelneWerte |= 1 << wert;
+
+        int anzahlWerte = Integer.bitCount(einzelneWerte);
+
+        if (anzahlWerte >= 2)
+            openEnder = true;
+        else if (anzahlWerte == 1)
+            gutshot = true;
+
+        if (!flop || anzahlWerte > 0)
+            return;
+
+        for (int wert1 = 0; wert1 < 13 && !backdoorStrassenDraw; wert1++) {
+            for (int wert2 = wert1 + 1; wert2 < 13; wert2++) {
+
+                int dazu = 1 << wert1 | 1 << wert2;
+
+                if ((werte & dazu) == 0 && istStrasseMitHoleCards(werte | dazu, boardWerte | dazu)) {
+                    backdoorStrassenDraw = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int oder(int[] farben) {
+        return farben[0] | farben[1] | farben[2] | farben[3];
+    }
+
+    /* Werte, die in mindestens zwei der vier Farben vorkommen */
+    private static int mindestensZwei(int[] farben) {
+        return farben[0] & farben[1] | farben[2] & farben[3] | (farben[0] | farben[1]) & (farben[2] | farben[3]);
+    }
+
+    /* Werte, die in mindestens drei der vier Farben vorkommen */
+    private static int mindestensDrei(int[] farben) {
+        return farben[0] & farben[1] & (farben[2] | farben[3]) | (farben[0] | farben[1]) & farben[2] & farben[3];
+    }
+
+    /*
+     * Eine Straße zählt nur, wenn sie nicht schon allein mit dem Board
+     * besteht.
+     */
+    private static boolean istStrasseMitHoleCards(int werte, int boardWerte) {
+        return HandBewerter.findeStrasse(werte) > HandBewerter.findeStrasse(boardWerte);
+    }
+}
@@ -0,0 +1,224 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Collection;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Der ShortDeckBewerter bewertet Hände beim Short Deck Hold'em (6+). Es wird
+ * ohne die Zweien bis Fünfen gespielt, wodurch sich zwei Regeln ändern:
+ *
+ * <ul>
+ * <li>Das Ass bildet die niedrigste Straße A-6-7-8-9.</li>
+ * <li>Ein Flush schlägt ein Full House.</li>
+ * </ul>
+ *
+ * Der Rang ist wie beim {@link HandBewerter} aufgebaut, nur dass Flush und
+ * Full House ihre Kategorien tauschen. Die Kombination eines Rangs liefert
+ * daher {@link #getKombination(int)}.
+ *
+ * Straßen und Flushes werden nicht ermittelt, sondern über eigene, beim
+ * Laden der Klasse berechnete Tabellen pro 13-Bit-Wert-Maske nachgeschlagen.
+ */
+public final class ShortDeckBewerter {
+
+    /** Alle Karten von Sechs bis Ass */
+    public static final long KARTEN = 0x1FF01FF01FF01FF0L;
+
+    private static final int ASS = 12;
+
+    /* A-6-7-8-9: Das Ass zählt als Fünf. */
+    private static final int WHEEL = 1 << ASS | 0xF0;
+
+    /* Die Neun ist die höchste Karte im Wheel. */
+    private static final int WHEEL_HOECHSTE_KARTE = 7;
+
+    private static final int ROYAL_FLUSH = kategorie(Kombination.ROYAL_FLUSH);
+    private static final int STRAIGTH_FLUSH = kategorie(Kombination.STRAIGTH_FLUSH);
+    private static final int VIERLING = kategorie(Kombination.VIERLING);
+    private static final int DRILLING = kategorie(Kombination.DRILLING);
+    private static final int STRASSE = kategorie(Kombination.STRASSE);
+    private static final int ZWEI_PAARE = kategorie(Kombination.ZWEI_PAARE);
+    private static final int EIN_PAAR = kategorie(Kombination.EIN_PAAR);
+    private static final int HOECHSTE_KARTE = kategorie(Kombination.HOECHSTE_KARTE);
+
+    /* Flush und Full House tauschen die Plätze. */
+    private static final int FLUSH = kategorie(Kombination.FULL_HOUSE);
+    private static final int FULL_HOUSE = kategorie(Kombination.FLUSH);
+
+    /* Index ist die Kategorie im Rang */
+    private static final Kombination[] KOMBINATION_PRO_KATEGORIE = new Kombination[11];
+
+    /* Höchste Karte der besten Straße pro Wert-Maske oder -1 */
+    private static final byte[] STRASSEN_TABELLE = new byte[1 << 13];
+
+    /* Rang des besten Flushes oder Straight Flushes pro Wert-Maske */
+    private static final int[] FLUSH_TABELLE = new int[1 << 13];
+
+    static {
+
+        for (Kombination kombination : Kombination.values())
+            KOMBINATION_PRO_KATEGORIE[kombination.getWert()] = kombination;
+
+        KOMBINATION_PRO_KATEGORIE[FLUSH >>> HandBewerter.KOMBINATION_SHIFT] = Kombination.FLUSH;
+        KOMBINATION_PRO_KATEGORIE[FULL_HOUSE >>> HandBewerter.KOMBINATION_SHIFT] = Kombination.FULL_HOUSE;
+
+        for (int werte = 0; werte < STRASSEN_TABELLE.length; werte++) {
+
+            int hoechsteKarte = findeStrasse(werte);
+
+            STRASSEN_TABELLE[werte] = (byte) hoechsteKarte;
+
+            if (Integer.bitCount(werte) < 5)
+                continue;
+
+            if (hoechsteKarte == ASS)
+                FLUSH_TABELLE[werte] = ROYAL_FLUSH | ASS << 16;
+            else if (hoechsteKarte >= 0)
+                FLUSH_TABELLE[werte] = STRAIGTH_FLUSH | hoechsteKarte << 16;
+            else
+                FLUSH_TABELLE[werte] = FLUSH | HandBewerter.packeWerte(werte, 5, 16);
+        }
+    }
+
+    private ShortDeckBewerter() {
+        /* Nur statische Methoden */
+    }
+
+    public static int bewerte(Collection<Karte> karten) {
+        return bewerte(KartenMaske.von(karten));
+    }
+
+    /**
+     * Berechnet den Rang der besten Hand aus bis zu sieben Karten von Sechs
+     * bis Ass.
+     */
+    public static int bewerte(long karten) {
+
+        if ((karten & ~KARTEN) != 0)
+            throw new IllegalArgumentException("Karten nicht im Short Deck: " + KartenMaske.toString(karten & ~KARTEN));
+
+        int kreuz = (int) karten & KartenMaske.WERT_BITS;
+        int pik = (int) (karten >>> 16) & KartenMaske.WERT_BITS;
+        int herz = (int) (karten >>> 32) & KartenMaske.WERT_BITS;
+        int karo = (int) (karten >>> 48) & KartenMaske.WERT_BITS;
+
+        int flush = HandBewerter.findeFlush(kreuz, pik, herz, karo);
+
+        int flushRang = flush != 0 ? FLUSH_TABELLE[flush] : 0;
+
+        /* Royal Flush und Straight Flush */
+        if (flushRang >= STRAIGTH_FLUSH)
+            return flushRang;
+
+        int alle = kreuz | pik | herz | karo;
+
+        int vierlinge = kreuz & pik & herz & karo;
+        int mindestensDrei = kreuz & pik & (herz | karo) | (kreuz | pik) & herz & karo;
+        int mindestensZwei = kreuz & pik | herz & karo | (kreuz | pik) & (herz | karo);
+
+        if (vierlinge != 0) {
+
+            int vierling = HandBewerter.hoechsterWert(vierlinge);
+
+            return VIERLING | vierling << 16 | HandBewerter.packeWerte(alle & ~(1 << vierling), 1, 12);
+        }
+
+        /* Der Flush kommt vor dem Full House. */
+        if (flushRang != 0)
+            return flushRang;
+
+        int drillinge = mindestensDrei;
+        int paare = mindestensZwei & ~mindestensDrei;
+
+        if (drillinge != 0) {
+
+            int drilling = HandBewerter.hoechsterWert(drillinge);
+
+            int paarKandidaten = drillinge & ~(1 << drilling) | paare;
+
+            if (paarKandidaten != 0)
+                return FULL_HOUSE | drilling << 16 | HandBewerter.hoechsterWert(paarKandidaten) << 12;
+        }
+
+        int hoechsteKarteDerStrasse = STRASSEN_TABELLE[alle];
+
+        if (hoechsteKarteDerStrasse >= 0)
+            return STRASSE | hoechsteKarteDerStrasse << 16;
+
+        if (drillinge != 0) {
+
+            int drilling = HandBewerter.hoechsterWert(drillinge);
+
+            return DRILLING | drilling << 16 | HandBewerter.packeWerte(alle & ~(1 << drilling), 2, 12);
+        }
+
+        if (paare != 0) {
+
+            int hohesPaar = HandBewerter.hoechsterWert(paare);
+
+            int weiterePaare = paare & ~(1 << hohesPaar);
+
+            if (weiterePaare != 0) {
+
+                int niedrigesPaar = HandBewerter.hoechsterWert(weiterePaare);
+
+                return ZWEI_PAARE | hohesPaar << 16 | niedrigesPaar << 12
+                        | HandBewerter.packeWerte(alle & ~(1 << hohesPaar) & ~(1 << niedrigesPaar), 1, 8);
+            }
+
+            return EIN_PAAR | hohesPaar << 16 | HandBewerter.packeWerte(alle & ~(1 << hohesPaar), 3, 12);
+        }
+
+        return HOECHSTE_KARTE | HandBewerter.packeWerte(alle, 5, 16);
+    }
+
+    /**
+     * Liefert die Kombination, die in einem Short-Deck-Rang kodiert ist.
+     */
+    public static Kombination getKombination(int rang) {
+        return KOMBINATION_PRO_KATEGORIE[rang >>> HandBewerter.KOMBINATION_SHIFT];
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    private static int findeStrasse(int werte) {
+
+        int strassen = werte & werte << 1 & werte << 2 & werte << 3 & werte << 4;
+
+        if (strassen != 0)
+            return HandBewerter.hoechsterWert(strassen);
+
+        if ((werte & WHEEL) == WHEEL)
+            return WHEEL_HOECHSTE_KARTE;
+
+        return -1;
+    }
+
+    private static int kategorie(Kombination kombination) {
+        return kombination.getWert() << HandBewerter.KOMBINATION_SHIFT;
+    }
+}
@@ -0,0 +1,380 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Die SiebenKartenTabelle bewertet genau sieben Karten mit wenigen
+ * Tabellenzugriffen. Die Tabelle wird einmalig durch {@link #erzeuge(File)}
+ * (bzw. über die main-Methode) mit dem {@link HandBewerter} berechnet und
+ * in eine Datei geschrieben. Beim Laden wird diese Datei nur per
+ * {@link FileChannel#map} eingeblendet. Dadurch entfällt der Aufbau beim
+ * Start und mehrere Server-Prozesse auf demselben Rechner teilen sich die
+ * Speicherseiten.
+ *
+ * Jede Karte hat einen Schlüssel, der aus zwei Teilen besteht:
+ *
+ * 1) Die Farbe zählt in ihrem eigenen 4-Bit-Feld. Sind von einer Farbe
+ * mindestens fünf Karten da, gibt es einen Flush. Bei sieben Karten ist
+ * daneben weder ein Vierling noch ein Full House möglich und der Rang hängt
+ * nur von der Wert-Maske der Flush-Farbe ab, die direkt als Index in die
+ * Flush-Tabelle dient.
+ *
+ * 2) Die Werte-Schlüssel sind so gewählt, dass die Summe von sieben Karten
+ * für jede Verteilung der Werte eindeutig ist. Die Summen liegen zwischen 0
+ * und 7.825.759, es kommen aber nur 49.205 davon vor. Die Werte-Tabelle
+ * wird deshalb zeilenweise übereinander geschoben: Der Eintrag einer Summe
+ * steht an der Stelle summe + zeilenOffset[summe / 512].
+ *
+ * Das Ergebnis ist derselbe Rang wie beim {@link HandBewerter}.
+ */
+public final class SiebenKartenTabelle {
+
+    public static final int ANZAHL_KARTEN = 7;
+
+    /** Der Standard-Dateiname, wenn kein anderer angegeben wird. */
+    public static final String DATEINAME = "sieben_karten.tbl";
+
+    /* "PKT7" */
+    private static final int MAGIC = 0x504B5437;
+    private static final int VERSION = 1;
+
+    /*
+     * Magic, Version, Anzahl Karten, Anzahl Flush-Einträge, Anzahl Zeilen,
+     * Anzahl Werte-Einträge
+     */
+    private static final int HEADER_BYTES = 6 * 4;
+
+    private static final int FLUSH_EINTRAEGE = 1 << 13;
+
+    /* Maximal vier Karten eines Werts */
+    private static final int MAX_PRO_WERT = 4;
+
+    /*
+     * Werte-Schlüssel von der Zwei bis zum Ass. Die Summe von sieben Karten
+     * ist für jede Verteilung eindeutig.
+     */
+    private static final int[] WERT_SCHLUESSEL = {
+            0, 1, 5, 22, 98, 453, 2031, 8698, 22854, 83661, 262349, 636345, 1479181 };
+
+    /* Jede Zeile der Werte-Tabelle umfasst 512 Summen. */
+    private static final int ZEILEN_SHIFT = 9;
+
+    private static final int MAX_SUMME = 4 * WERT_SCHLUESSEL[12] + 3 * WERT_SCHLUESSEL[11];
+
+    private static final int ZEILEN = (MAX_SUMME >>> ZEILEN_SHIFT) + 1;
+
+    /* Ab fünf Karten einer Farbe läuft das 4-Bit-Feld in sein oberstes Bit. */
+    private static final int FLUSH_PRUEFUNG = 0x3333;
+    private static final int FLUSH_BITS = 0x8888;
+
+    /*
+     * Der Schlüssel jeder Karte nach ihrem Bit-Index in der KartenMaske:
+     * Bit 0-15 die Farbe, darüber der Werte-Schlüssel.
+     */
+    private static final long[] KARTEN_SCHLUESSEL = new long[64];
+
+    static {
+
+        for (Karte karte : Karte.values()) {
+
+            int bitIndex = KartenMaske.getBitIndex(karte);
+
+            KARTEN_SCHLUESSEL[bitIndex] = (long) WERT_SCHLUESSEL[KartenMaske.getRang(karte.wert)] << 16
+                    | 1L << (4 * karte.farbe.ordinal());
+        }
+    }
+
+    private final IntBuffer flushTabelle;
+    private final IntBuffer zeilenOffsets;
+    private final IntBuffer werteTabelle;
+
+    private SiebenKartenTabelle(ByteBuffer buffer) {
+
+        buffer.position(HEADER_BYTES);
+        this.flushTabelle = buffer.slice().order(ByteOrder.nativeOrder()).asIntBuffer();
+
+        buffer.position(HEADER_BYTES + FLUSH_EINTRAEGE * 4);
+        this.zeilenOffsets = buffer.slice().order(ByteOrder.nativeOrder()).asIntBuffer();
+
+        buffer.position(HEADER_BYTES + (FLUSH_EINTRAEGE + ZEILEN) * 4);
+        this.werteTabelle = buffer.slice().order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /*
+     * Laden und Erzeugen
+     */
+
+    /**
+     * Blendet eine mit {@link #erzeuge(File)} geschriebene Tabelle ein.
+     */
+    public static SiebenKartenTabelle lade(File datei) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(datei.toPath(), StandardOpenOption.READ)) {
+
+            ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+
+            buffer.order(ByteOrder.nativeOrder());
+
+            if (channel.size() < HEADER_BYTES
+                    || buffer.getInt(0) != MAGIC
+                    || buffer.getInt(4) != VERSION
+                    || buffer.getInt(8) != ANZAHL_KARTEN
+                    || buffer.getInt(12) != FLUSH_EINTRAEGE
+                    || buffer.getInt(16) != ZEILEN
+                    || channel.size() != getDateiGroesse(buffer.getInt(20)))
+                throw new IOException("Die Datei " + datei + " ist keine gültige SiebenKartenTabelle.");
+
+            return new SiebenKartenTabelle(buffer);
+        }
+    }
+
+    /**
+     * Lädt die Tabelle und erzeugt sie vorher, falls die Datei noch nicht
+     * existiert.
+     */
+    public static SiebenKartenTabelle ladeOderErzeuge(File datei) throws IOException {
+
+        if (!datei.exists())
+            erzeuge(datei);
+
+        return lade(datei);
+    }
+
+    /**
+     * Berechnet die Tabelle mit dem {@link HandBewerter} und schreibt sie in
+     * die parametrisierte Datei.
+     */
+    public static void erzeuge(File datei) throws IOException {
+
+        /* Alle Verteilungen von sieben Karten auf die Werte bewerten */
+        final List<List<int[]>> eintraegeProZeile = new ArrayList<List<int[]>>(ZEILEN);
+
+        for (int zeile = 0; zeile < ZEILEN; zeile++)
+            eintraegeProZeile.add(new ArrayList<int[]>());
+
+        sammleEintraege(eintraegeProZeile, new int[13], 12, ANZAHL_KARTEN, 0);
+
+        /* Zeilen mit vielen Einträgen zuerst einsortieren */
+        List<Integer> zeilen = new ArrayList<Integer>(ZEILEN);
+
+        for (int zeile = 0; zeile < ZEILEN; zeile++)
+            zeilen.add(zeile);
+
+        Collections.sort(zeilen, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer zeile1, Integer zeile2) {
+                return Integer.compare(
+                        eintraegeProZeile.get(zeile2).size(),
+                        eintraegeProZeile.get(zeile1).size());
+            }
+        });
+
+        int[] zeilenOffsets = new int[ZEILEN];
+        int[] werteTabelle = new int[MAX_SUMME + 1];
+        BitSet belegt = new BitSet();
+        int werteEintraege = 0;
+
+        for (int zeile : zeilen) {
+
+            List<int[]> eintraege = eintraegeProZeile.get(zeile);
+
+            if (eintraege.isEmpty())
+                continue;
+
+            int zeilenAnfang = zeile << ZEILEN_SHIFT;
+
+            int start = 0;
+
+            while (!passt(eintraege, belegt, start - zeilenAnfang))
+                start++;
+
+            zeilenOffsets[zeile] = start - zeilenAnfang;
+
+            for (int[] eintrag : eintraege) {
+
+                int index = eintrag[0] + zeilenOffsets[zeile];
+
+                belegt.set(index);
+                werteTabelle[index] = eintrag[1];
+                werteEintraege = Math.max(werteEintraege, index + 1);
+            }
+        }
+
+        /* Datei schreiben */
+        ByteBuffer buffer = ByteBuffer.allocate(getDateiGroesse(werteEintraege));
+
+        buffer.order(ByteOrder.nativeOrder());
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(ANZAHL_KARTEN);
+        buffer.putInt(FLUSH_EINTRAEGE);
+        buffer.putInt(ZEILEN);
+        buffer.putInt(werteEintraege);
+
+        /* Die Flush-Tabelle mit allen Karten in der Farbe Kreuz */
+        for (int werte = 0; werte < FLUSH_EINTRAEGE; werte++)
+            buffer.putInt(Integer.bitCount(werte) >= 5 ? HandBewerter.bewerte(werte) : 0);
+
+        for (int zeilenOffset : zeilenOffsets)
+            buffer.putInt(zeilenOffset);
+
+        for (int i = 0; i < werteEintraege; i++)
+            buffer.putInt(werteTabelle[i]);
+
+        buffer.rewind();
+
+        File verzeichnis = datei.getAbsoluteFile().getParentFile();
+
+        if (verzeichnis != null && !verzeichnis.exists() && !verzeichnis.mkdirs())
+            throw new IOException("Verzeichnis " + verzeichnis + " kann nicht angelegt werden.");
+
+        try (FileChannel channel = FileChannel.open(datei.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+    }
+
+    /*
+     * Durchläuft rekursiv alle Anzahlen pro Wert vom Ass abwärts. Die Karten
+     * werden reihum auf die Farben verteilt, damit nie fünf Karten derselben
+     * Farbe entstehen.
+     */
+    private static void sammleEintraege(List<List<int[]>> eintraegeProZeile,
+            int[] anzahlProWert, int wert, int restlicheKarten, int summe) {
+
+        if (wert < 0) {
+
+            if (restlicheKarten != 0)
+                return;
+
+            long maske = KartenMaske.LEER;
+            int karte = 0;
+
+            for (int w = 12; w >= 0; w--)
+                for (int i = 0; i < anzahlProWert[w]; i++, karte++)
+                    maske |= 1L << ((karte % 4) * 16 + w);
+
+            eintraegeProZeile.get(summe >>> ZEILEN_SHIFT).add(
+                    new int[] { summe, HandBewerter.bewerte(maske) });
+
+            return;
+        }
+
+        for (int anzahl = 0; anzahl <= MAX_PRO_WERT && anzahl <= restlicheKarten; anzahl++) {
+
+            anzahlProWert[wert] = anzahl;
+
+            sammleEintraege(eintraegeProZeile, anzahlProWert, wert - 1,
+                    restlicheKarten - anzahl, summe + anzahl * WERT_SCHLUESSEL[wert]);
+        }
+
+        anzahlProWert[wert] = 0;
+    }
+
+    private static boolean passt(List<int[]> eintraege, BitSet belegt, int offset) {
+
+        for (int[] eintrag : eintraege)
+            if (belegt.get(eintrag[0] + offset))
+                return false;
+
+        return true;
+    }
+
+    /*
+     * Bewertung
+     */
+
+    public int bewerte(Collection<Karte> karten) {
+
+        if (karten.size() != ANZAHL_KARTEN)
+            throw new IllegalArgumentException("Es müssen genau 7 Karten bewertet werden.");
+
+        return bewerte(KartenMaske.von(karten));
+    }
+
+    /**
+     * Liefert für genau sieben Karten denselben Rang wie
+     * {@link HandBewerter#bewerte(long)}.
+     */
+    public int bewerte(long karten) {
+
+        long schluessel = 0;
+
+        for (long rest = karten; rest != 0; rest &= rest - 1)
+            schluessel += KARTEN_SCHLUESSEL[Long.numberOfTrailingZeros(rest)];
+
+        int flush = ((int) schluessel & 0xFFFF) + FLUSH_PRUEFUNG & FLUSH_BITS;
+
+        if (flush != 0) {
+
+            int farbe = Integer.numberOfTrailingZeros(flush) >>> 2;
+
+            return flushTabelle.get((int) (karten >>> (farbe * 16)) & KartenMaske.WERT_BITS);
+        }
+
+        int summe = (int) (schluessel >>> 16);
+
+        return werteTabelle.get(summe + zeilenOffsets.get(summe >>> ZEILEN_SHIFT));
+    }
+
+    private static int getDateiGroesse(int werteEintraege) {
+        return HEADER_BYTES + (FLUSH_EINTRAEGE + ZEILEN + werteEintraege) * 4;
+    }
+
+    /**
+     * Erzeugt die Tabelle als Teil des Builds oder von Hand. Als Parameter
+     * kann der Dateiname angegeben werden.
+     */
+    public static void main(String[] args) throws IOException {
+
+        File datei = new File(args.length > 0 ? args[0] : DATEINAME);
+
+        long startTime = System.currentTimeMillis();
+
+        erzeuge(datei);
+
+        long endTime = System.currentTimeMillis();
+
+        System.out.println("SiebenKartenTabelle " + datei.getAbsolutePath()
+                + " erzeugt in " + (endTime - startTime) + "ms.");
+    }
+}
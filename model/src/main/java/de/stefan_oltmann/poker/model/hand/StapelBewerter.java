@@ -0,0 +1,250 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Der StapelBewerter bewertet viele Hände mit einem Aufruf. Die Hände werden
+ * entweder als Array von {@link KartenMaske}n oder spaltenweise als Arrays
+ * von Karten-Indizes übergeben, die Ränge werden in ein vorhandenes int-Array
+ * geschrieben. Die Schleifen rufen direkt {@link HandBewerter#bewerte(long)}
+ * auf und erzeugen keine Objekte, damit der JIT sie vollständig inlinen kann.
+ *
+ * Für Stapel aus genau sieben Karten kann stattdessen eine
+ * {@link SiebenKartenTabelle} übergeben werden. Deren Tabellen-Zugriffe
+ * hängen nicht von Verzweigungen pro Kombination ab und sind etwa doppelt so
+ * schnell.
+ *
+ * Große Stapel können parallel bewertet werden. Sie werden dann im
+ * gemeinsamen {@link ForkJoinPool} so lange halbiert, bis die Teile kleiner
+ * als {@link #MIN_PARALLEL} sind.
+ */
+public final class StapelBewerter {
+
+    /** Ab dieser Anzahl Hände lohnt sich die Aufteilung auf mehrere Threads */
+    public static final int MIN_PARALLEL = 1 << 14;
+
+    private StapelBewerter() {
+        /* Nur statische Methoden */
+    }
+
+    /*
+     * Masken
+     */
+
+    public static void bewerte(long[] karten, int[] raenge) {
+
+        pruefeLaenge(karten.length, raenge);
+
+        bewerte(karten, raenge, 0, karten.length);
+    }
+
+    /**
+     * Bewertet die Masken im Bereich [von, bis) und schreibt die Ränge an
+     * dieselben Positionen in "raenge".
+     */
+    public static void bewerte(long[] karten, int[] raenge, int von, int bis) {
+
+        for (int i = von; i < bis; i++)
+            raenge[i] = HandBewerter.bewerte(karten[i]);
+    }
+
+    public static void bewerteParallel(long[] karten, int[] raenge) {
+
+        pruefeLaenge(karten.length, raenge);
+
+        ForkJoinPool.commonPool().invoke(new MaskenStapel(null, karten, raenge, 0, karten.length));
+    }
+
+    /*
+     * Masken aus genau sieben Karten
+     */
+
+    public static void bewerte(SiebenKartenTabelle tabelle, long[] karten, int[] raenge) {
+
+        pruefeLaenge(karten.length, raenge);
+
+        bewerte(tabelle, karten, raenge, 0, karten.length);
+    }
+
+    /**
+     * Bewertet die Masken im Bereich [von, bis) mit der Tabelle. Jede Maske
+     * muss genau sieben Karten enthalten.
+     */
+    public static void bewerte(SiebenKartenTabelle tabelle, long[] karten, int[] raenge, int von, int bis) {
+
+        for (int i = von; i < bis; i++)
+            raenge[i] = tabelle.bewerte(karten[i]);
+    }
+
+    public static void bewerteParallel(SiebenKartenTabelle tabelle, long[] karten, int[] raenge) {
+
+        pruefeLaenge(karten.length, raenge);
+
+        ForkJoinPool.commonPool().invoke(new MaskenStapel(tabelle, karten, raenge, 0, karten.length));
+    }
+
+    /*
+     * Karten-Indizes
+     */
+
+    /**
+     * Bewertet Hände, deren Karten spaltenweise als Index
+     * ({@link Karte#ordinal()}) übergeben werden: karten[k][i] ist die k-te
+     * Karte der i-ten Hand. Alle Spalten müssen gleich lang sein.
+     */
+    public static void bewerte(byte[][] karten, int[] raenge) {
+
+        int anzahl = pruefeSpalten(karten);
+
+        pruefeLaenge(anzahl, raenge);
+
+        bewerte(karten, raenge, 0, anzahl);
+    }
+
+    public static void bewerte(byte[][] karten, int[] raenge, int von, int bis) {
+
+        for (int i = von; i < bis; i++) {
+
+            long maske = KartenMaske.LEER;
+
+            for (int k = 0; k < karten.length; k++)
+                maske |= KartenCodec.getMaske(karten[k][i]);
+
+            raenge[i] = HandBewerter.bewerte(maske);
+        }
+    }
+
+    public static void bewerteParallel(byte[][] karten, int[] raenge) {
+
+        int anzahl = pruefeSpalten(karten);
+
+        pruefeLaenge(anzahl, raenge);
+
+        ForkJoinPool.commonPool().invoke(new IndexStapel(karten, raenge, 0, anzahl));
+    }
+
+    /*
+     * Hilfs-Methoden
+     */
+
+    private static void pruefeLaenge(int anzahl, int[] raenge) {
+
+        if (raenge.length < anzahl)
+            throw new IllegalArgumentException("Das Array der Ränge ist zu kurz: "
+                    + raenge.length + " < " + anzahl);
+    }
+
+    private static int pruefeSpalten(byte[][] karten) {
+
+        if (karten.length == 0 || karten.length > 7)
+            throw new IllegalArgumentException("Es können 1 bis 7 Karten bewertet werden.");
+
+        int anzahl = karten[0].length;
+
+        for (byte[] spalte : karten)
+            if (spalte.length != anzahl)
+                throw new IllegalArgumentException("Alle Spalten müssen gleich lang sein.");
+
+        return anzahl;
+    }
+
+    /*
+     * Die Teil-Aufgaben halbieren ihren Bereich, bis er klein genug ist, um
+     * ihn direkt zu bewerten.
+     */
+
+    private static class MaskenStapel extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /* null, um mit dem HandBewerter zu bewerten */
+        private final SiebenKartenTabelle tabelle;
+
+        private final long[] karten;
+        private final int[] raenge;
+        private final int von;
+        private final int bis;
+
+        MaskenStapel(SiebenKartenTabelle tabelle, long[] karten, int[] raenge, int von, int bis) {
+            this.tabelle = tabelle;
+            this.karten = karten;
+            this.raenge = raenge;
+            this.von = von;
+            this.bis = bis;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (bis - von <= MIN_PARALLEL) {
+
+                if (tabelle != null)
+                    bewerte(tabelle, karten, raenge, von, bis);
+                else
+                    bewerte(karten, raenge, von, bis);
+
+                return;
+            }
+
+            int mitte = (von + bis) >>> 1;
+
+            invokeAll(
+                    new MaskenStapel(tabelle, karten, raenge, von, mitte),
+                    new MaskenStapel(tabelle, karten, raenge, mitte, bis));
+        }
+    }
+
+    private static class IndexStapel extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[][] karten;
+        private final int[] raenge;
+        private final int von;
+        private final int bis;
+
+        IndexStapel(byte[][] karten, int[] raenge, int von, int bis) {
+            this.karten = karten;
+            this.raenge = raenge;
+            this.von = von;
+            this.bis = bis;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (bis - von <= MIN_PARALLEL) {
+                bewerte(karten, raenge, von, bis);
+                return;
+            }
+
+            int mitte = (von + bis) >>> 1;
+
+            invokeAll(
+                    new IndexStapel(karten, raenge, von, mitte),
+                    new IndexStapel(karten, raenge, mitte, bis));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+/**
+ * Die Poker-Variante eines Tisches. Sie bestimmt, mit welchen Karten
+ * gespielt wird und wie die Hände bewertet werden.
+ */
+public enum Variante {
+
+    /** Texas Hold'em mit allen 52 Karten */
+    TEXAS_HOLDEM(KartenMaske.ALLE) {
+
+        @Override
+        public int bewerte(long karten) {
+            return HandBewerter.bewerte(karten);
+        }
+
+        @Override
+        public Kombination getKombination(int rang) {
+            return HandBewerter.getKombination(rang);
+        }
+    },
+
+    /** Short Deck Hold'em (6+) mit 36 Karten */
+    SHORT_DECK(ShortDeckBewerter.KARTEN) {
+
+        @Override
+        public int bewerte(long karten) {
+            return ShortDeckBewerter.bewerte(karten);
+        }
+
+        @Override
+        public Kombination getKombination(int rang) {
+            return ShortDeckBewerter.getKombination(rang);
+        }
+    };
+
+    private final long karten;
+
+    /* Die Ordinalzahlen der Karten in der Reihenfolge von Karte.values() */
+    private final byte[] deckKarten;
+
+    private Variante(long karten) {
+
+        this.karten = karten;
+
+        this.deckKarten = new byte[Long.bitCount(karten)];
+
+        int i = 0;
+
+        for (Karte karte : Karte.values())
+            if (KartenMaske.enthaelt(karten, karte))
+                deckKarten[i++] = (byte) karte.ordinal();
+    }
+
+    /**
+     * Die Karten, mit denen gespielt wird, als {@link KartenMaske}.
+     */
+    public long getKarten() {
+        return karten;
+    }
+
+    public int getAnzahlKarten() {
+        return deckKarten.length;
+    }
+
+    /**
+     * Berechnet den Rang der besten Hand aus bis zu sieben Karten. Ränge
+     * sind nur innerhalb derselben Variante vergleichbar.
+     */
+    public abstract int bewerte(long karten);
+
+    /**
+     * Bewertet die bisher bekannten Karten eines Spielers. Wurde der
+     * HandZustand nach dieser Variante fortgeschrieben, ist das nur der
+     * bereits berechnete Rang.
+     */
+    public int bewerte(HandZustand handZustand) {
+
+        if (handZustand.getVariante() == this)
+            return handZustand.getRang();
+
+        return bewerte(handZustand.getKarten());
+    }
+
+    /**
+     * Liefert die Kombination, die in einem Rang dieser Variante kodiert ist.
+     */
+    public abstract Kombination getKombination(int rang);
+
+    byte[] getDeckKarten() {
+        return deckKarten;
+    }
+}
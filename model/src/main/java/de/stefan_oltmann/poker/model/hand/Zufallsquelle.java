@@ -0,0 +1,78 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Die Zufallsquelle, mit der ein {@link Deck} gemischt wird.
+ *
+ * Für echte Spiele wird eine kryptographisch sichere Quelle benötigt, für
+ * Simulationen eine schnelle und zum Nachspielen einer Hand eine mit festem
+ * Seed. Eine Zufallsquelle ist nicht thread-sicher und gehört zu genau einem
+ * Deck.
+ */
+@FunctionalInterface
+public interface Zufallsquelle {
+
+    /** Länge eines Seeds für {@link #mitSeed(byte[])} in Bytes */
+    int SICHERER_SEED_LAENGE = 32;
+
+    /**
+     * Liefert eine gleichverteilte Zahl von 0 (inklusive) bis "grenze"
+     * (exklusive).
+     */
+    int naechsterInt(int grenze);
+
+    /**
+     * Kryptographisch sicher, aber langsam und kann beim Sammeln von
+     * Entropie blockieren.
+     */
+    static Zufallsquelle sicher() {
+        return new SecureRandom()::nextInt;
+    }
+
+    /**
+     * Schnell, mit zufälligem Seed. Für Simulationen.
+     */
+    static Zufallsquelle schnell() {
+        return new SplittableRandom()::nextInt;
+    }
+
+    /**
+     * Liefert bei gleichem Seed immer dieselbe Folge. Mit nur 64 Bit Seed
+     * nur für Tests und Simulationen.
+     */
+    static Zufallsquelle mitSeed(long seed) {
+        return new SplittableRandom(seed)::nextInt;
+    }
+
+    /**
+     * Liefert bei gleichem Seed immer dieselbe Folge. Der Seed muss
+     * mindestens {@link #SICHERER_SEED_LAENGE} Bytes aus einer sicheren Quelle
+     * haben. Für echte Spiele, die nachgespielt werden sollen.
+     */
+    static Zufallsquelle mitSeed(byte[] seed) {
+        return new HashZufallsquelle(seed);
+    }
+}
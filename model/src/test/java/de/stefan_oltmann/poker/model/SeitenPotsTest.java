@@ -0,0 +1,121 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class SeitenPotsTest extends TestCase {
+
+    private final int[] potHoehen = new int[6];
+    private final int[] berechtigte = new int[6];
+    private final int[] stufen = new int[6];
+
+    public void testBerechne_GleicheEinsaetze() {
+
+        int anzahl = SeitenPots.berechne(new int[] { 100, 100, 100 }, 0x7, 0, potHoehen, berechtigte, stufen);
+
+        assertEquals(1, anzahl);
+        assertEquals(300, potHoehen[0]);
+        assertEquals(0x7, berechtigte[0]);
+    }
+
+    /*
+     * Platz 0 ist mit 50 All-In, Platz 1 mit 200, Platz 2 und 3 gehen mit
+     * 500 weiter.
+     */
+    public void testBerechne_MehrereAllIns() {
+
+        int anzahl = SeitenPots.berechne(new int[] { 50, 200, 500, 500 }, 0xF, 0, potHoehen, berechtigte, stufen);
+
+        assertEquals(3, anzahl);
+        assertTrue(Arrays.equals(new int[] { 200, 450, 600 }, Arrays.copyOf(potHoehen, anzahl)));
+        assertTrue(Arrays.equals(new int[] { 0xF, 0xE, 0xC }, Arrays.copyOf(berechtigte, anzahl)));
+    }
+
+    /*
+     * Gefoldete Spieler zahlen ein, sind aber für keinen Pot berechtigt.
+     */
+    public void testBerechne_MitFold() {
+
+        int anzahl = SeitenPots.berechne(new int[] { 300, 100, 400, 0 }, 0x6, 0, potHoehen, berechtigte, stufen);
+
+        assertEquals(2, anzahl);
+        assertEquals(100 + 100 + 100, potHoehen[0]);
+        assertEquals(0x6, berechtigte[0]);
+        assertEquals(200 + 300, potHoehen[1]);
+        assertEquals(0x4, berechtigte[1]);
+    }
+
+    public void testBerechne_TotesGeldImHauptpot() {
+
+        int anzahl = SeitenPots.berechne(new int[] { 100, 300 }, 0x3, 40, potHoehen, berechtigte, stufen);
+
+        assertEquals(2, anzahl);
+        assertEquals(240, potHoehen[0]);
+        assertEquals(200, potHoehen[1]);
+    }
+
+    public void testBerechne_UeberschussGefoldeterSpieler() {
+
+        int anzahl = SeitenPots.berechne(new int[] { 100, 100, 250 }, 0x3, 0, potHoehen, berechtigte, stufen);
+
+        assertEquals(1, anzahl);
+        assertEquals(450, potHoehen[0]);
+        assertEquals(0x3, berechtigte[0]);
+    }
+
+    public void testBerechne_OhneEinsaetze() {
+        assertEquals(0, SeitenPots.berechne(new int[4], 0xF, 0, potHoehen, berechtigte, stufen));
+    }
+
+    /*
+     * Totes Geld bleibt nicht liegen, wenn die beteiligten Plätze in dieser
+     * Hand noch nichts gesetzt haben.
+     */
+    public void testBerechne_NurTotesGeld() {
+
+        int anzahl = SeitenPots.berechne(new int[] { 0, 0, 30 }, 0x3, 40, potHoehen, berechtigte, stufen);
+
+        assertEquals(1, anzahl);
+        assertEquals(70, potHoehen[0]);
+        assertEquals(0x3, berechtigte[0]);
+    }
+
+    public void testBerechne_NurTotesGeldOhneBeteiligte() {
+        assertEquals(0, SeitenPots.berechne(new int[4], 0, 40, potHoehen, berechtigte, stufen));
+    }
+
+    public void testBerechne_ArbeitsbereichWiederverwendet() {
+
+        SeitenPots.berechne(new int[] { 50, 200, 500, 500 }, 0xF, 0, potHoehen, berechtigte, stufen);
+
+        int anzahl = SeitenPots.berechne(new int[] { 100, 300 }, 0x3, 0, potHoehen, berechtigte, stufen);
+
+        assertEquals(2, anzahl);
+        assertEquals(200, potHoehen[0]);
+        assertEquals(0x3, berechtigte[0]);
+        assertEquals(200, potHoehen[1]);
+        assertEquals(0x2, berechtigte[1]);
+    }
+}
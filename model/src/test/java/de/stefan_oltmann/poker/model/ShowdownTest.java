@@ -0,0 +1,80 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class ShowdownTest extends TestCase {
+
+    private static final int K = Showdown.KEIN_RANG;
+
+    public void testVerteile_EinGewinner() {
+
+        int[] gewinne = new int[6];
+
+        int gewinner = Showdown.verteile(300, new int[] { 5, K, 9, 7, K, K }, 0, gewinne);
+
+        assertEquals(1 << 2, gewinner);
+        assertTrue(Arrays.equals(new int[] { 0, 0, 300, 0, 0, 0 }, gewinne));
+    }
+
+    public void testVerteile_SplitPot() {
+
+        int[] gewinne = new int[6];
+
+        int gewinner = Showdown.verteile(300, new int[] { 9, K, 9, 7, 9, K }, 0, gewinne);
+
+        assertEquals(1 << 0 | 1 << 2 | 1 << 4, gewinner);
+        assertTrue(Arrays.equals(new int[] { 100, 0, 100, 0, 100, 0 }, gewinne));
+    }
+
+    /*
+     * Die übrigen Chips gehen reihum an die Gewinner links vom Dealer.
+     */
+    public void testVerteile_UebrigeChipsAbDemDealer() {
+
+        int[] raenge = { 9, K, 9, 7, 9, K };
+
+        int[] gewinne = new int[6];
+        Showdown.verteile(302, raenge, 1, gewinne);
+        assertTrue(Arrays.equals(new int[] { 100, 0, 101, 0, 101, 0 }, gewinne));
+
+        gewinne = new int[6];
+        Showdown.verteile(301, raenge, 4, gewinne);
+        assertTrue(Arrays.equals(new int[] { 101, 0, 100, 0, 100, 0 }, gewinne));
+
+        /* Der Dealer selbst kommt erst als letzter dran. */
+        gewinne = new int[6];
+        Showdown.verteile(302, raenge, 2, gewinne);
+        assertTrue(Arrays.equals(new int[] { 101, 0, 100, 0, 101, 0 }, gewinne));
+    }
+
+    public void testVerteile_OhneTeilnehmer() {
+
+        int[] gewinne = new int[6];
+
+        assertEquals(0, Showdown.verteile(100, new int[] { K, K, K, K, K, K }, 0, gewinne));
+        assertTrue(Arrays.equals(new int[6], gewinne));
+    }
+}
@@ -0,0 +1,234 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.Variante;
+
+public class SpielImplTest extends TestCase {
+
+    private SpielImpl spiel;
+
+    private Spieler alice;
+    private Spieler bob;
+
+    @Override
+    protected void setUp() {
+
+        spiel = new SpielImpl("123");
+
+        alice = new Spieler("1", "Alice", spiel.getId());
+        bob = new Spieler("2", "Bob", spiel.getId());
+
+        spiel.sitIn(alice, 1, 1500);
+        spiel.sitIn(bob, 2, 1500);
+    }
+
+    public void testHandZustand_wirdProStrasseFortgeschrieben() {
+
+        spiel.dealHoleCards();
+
+        spiel.showHoleCards(alice, Karte.HERZ_ASS, Karte.HERZ_KOENIG);
+
+        assertEquals(Kombination.HOECHSTE_KARTE, alice.getHandZustand().getKombination());
+        assertNull(bob.getHandZustand().getKombination());
+
+        spiel.dealFlop(Karte.HERZ_ZWEI, Karte.HERZ_SIEBEN, Karte.PIK_ASS);
+
+        assertEquals(Kombination.EIN_PAAR, alice.getHandZustand().getKombination());
+
+        /* Bob zeigt seine Karten erst nach dem Flop. */
+        spiel.showHoleCards(bob, Karte.KARO_SIEBEN, Karte.KREUZ_SIEBEN);
+
+        assertEquals(Kombination.DRILLING, bob.getHandZustand().getKombination());
+
+        spiel.dealTurn(Karte.HERZ_DREI);
+
+        assertEquals(Kombination.FLUSH, alice.getHandZustand().getKombination());
+        assertEquals(6, alice.getHandZustand().getAnzahlKarten());
+
+        spiel.dealRiver(Karte.PIK_SIEBEN);
+
+        assertEquals(Kombination.VIERLING, bob.getHandZustand().getKombination());
+
+        spiel.endHand();
+
+        assertNull(alice.getHandZustand().getKombination());
+        assertNull(bob.getHandZustand().getKombination());
+    }
+
+    public void testEndHand_Showdown() {
+
+        setzeChips(alice, 100);
+        setzeChips(bob, 100);
+
+        spiel.dealHoleCards();
+        spiel.showHoleCards(alice, Karte.HERZ_ASS, Karte.HERZ_KOENIG);
+        spiel.showHoleCards(bob, Karte.KARO_SIEBEN, Karte.KREUZ_SIEBEN);
+
+        spiel.dealFlop(Karte.HERZ_ZWEI, Karte.HERZ_SIEBEN, Karte.PIK_ASS);
+        spiel.dealTurn(Karte.PIK_DREI);
+        spiel.dealRiver(Karte.KARO_NEUN);
+
+        spiel.endHand();
+
+        /* Bob gewinnt mit einem Drilling. */
+        assertEquals(1400, alice.getChipsImStack());
+        assertEquals(1600, bob.getChipsImStack());
+        assertEquals(0, spiel.getChipsImPot());
+    }
+
+    public void testEndHand_SplitPot() {
+
+        setzeChips(alice, 100);
+        setzeChips(bob, 100);
+
+        spiel.dealHoleCards();
+        spiel.showHoleCards(alice, Karte.HERZ_ZWEI, Karte.HERZ_DREI);
+        spiel.showHoleCards(bob, Karte.KARO_ZWEI, Karte.KARO_DREI);
+
+        spiel.dealFlop(Karte.PIK_ASS, Karte.PIK_KOENIG, Karte.PIK_DAME);
+        spiel.dealTurn(Karte.PIK_BUBE);
+        spiel.dealRiver(Karte.PIK_ZEHN);
+
+        spiel.endHand();
+
+        assertEquals(1500, alice.getChipsImStack());
+        assertEquals(1500, bob.getChipsImStack());
+    }
+
+    public void testEndHand_OhneShowdown() {
+
+        setzeChips(alice, 100);
+        setzeChips(bob, 100);
+
+        spiel.dealHoleCards();
+
+        spiel.setzeAktivenSpieler(bob, 1);
+        spiel.fold(bob);
+
+        spiel.endHand();
+
+        assertEquals(1600, alice.getChipsImStack());
+        assertEquals(1400, bob.getChipsImStack());
+    }
+
+    /*
+     * Eve ist mit ihrem kleinen Stack All-In und hat die beste Hand. Sie
+     * gewinnt nur den Hauptpot, den Seitenpot bekommt Bob.
+     */
+    public void testEndHand_SeitenPot() {
+
+        Spieler eve = new Spieler("3", "Eve", spiel.getId());
+        spiel.sitIn(eve, 3, 200);
+
+        setzeChips(alice, 500);
+        setzeChips(bob, 500);
+        setzeChips(eve, 200);
+
+        spiel.dealHoleCards();
+        spiel.showHoleCards(alice, Karte.HERZ_ZWEI, Karte.KREUZ_DREI);
+        spiel.showHoleCards(bob, Karte.KARO_KOENIG, Karte.KREUZ_KOENIG);
+        spiel.showHoleCards(eve, Karte.HERZ_ASS, Karte.KREUZ_ASS);
+
+        spiel.dealFlop(Karte.PIK_ASS, Karte.PIK_SIEBEN, Karte.KARO_NEUN);
+        spiel.dealTurn(Karte.HERZ_BUBE);
+        spiel.dealRiver(Karte.KREUZ_VIER);
+
+        spiel.endHand();
+
+        assertEquals(600, eve.getChipsImStack());
+        assertEquals(1000 + 600, bob.getChipsImStack());
+        assertEquals(1000, alice.getChipsImStack());
+        assertEquals(0, spiel.getChipsImPot());
+    }
+
+    /*
+     * Beim Short Deck schlägt Alices Flush Bobs Full House.
+     */
+    public void testEndHand_ShortDeck() {
+
+        spiel = new SpielImpl("456", Variante.SHORT_DECK);
+
+        alice = new Spieler("1", "Alice", spiel.getId());
+        bob = new Spieler("2", "Bob", spiel.getId());
+
+        spiel.sitIn(alice, 1, 1500);
+        spiel.sitIn(bob, 2, 1500);
+
+        setzeChips(alice, 100);
+        setzeChips(bob, 100);
+
+        spiel.dealHoleCards();
+        spiel.showHoleCards(alice, Karte.HERZ_ASS, Karte.HERZ_SECHS);
+        spiel.showHoleCards(bob, Karte.PIK_KOENIG, Karte.KREUZ_KOENIG);
+
+        spiel.dealFlop(Karte.HERZ_KOENIG, Karte.HERZ_ACHT, Karte.HERZ_ZEHN);
+        spiel.dealTurn(Karte.PIK_ACHT);
+        spiel.dealRiver(Karte.KARO_NEUN);
+
+        /* Im Short Deck schlägt der Flush das Full House. */
+        assertEquals(Kombination.FLUSH, alice.getHandZustand().getKombination());
+        assertEquals(Kombination.FULL_HOUSE, bob.getHandZustand().getKombination());
+
+        spiel.endHand();
+
+        assertEquals(1600, alice.getChipsImStack());
+        assertEquals(1400, bob.getChipsImStack());
+    }
+
+    /*
+     * Eve verlässt den Tisch nach ihrem Einsatz, Alice und Bob checken. Der
+     * Pot besteht nur aus totem Geld und geht trotzdem an den Gewinner.
+     */
+    public void testEndHand_NurTotesGeld() {
+
+        Spieler eve = new Spieler("3", "Eve", spiel.getId());
+        spiel.sitIn(eve, 3, 200);
+
+        setzeChips(eve, 50);
+
+        spiel.leave(eve);
+
+        spiel.dealHoleCards();
+        spiel.showHoleCards(alice, Karte.HERZ_ASS, Karte.KREUZ_ASS);
+        spiel.showHoleCards(bob, Karte.HERZ_ZWEI, Karte.KREUZ_DREI);
+
+        spiel.dealFlop(Karte.PIK_KOENIG, Karte.PIK_SIEBEN, Karte.KARO_NEUN);
+        spiel.dealTurn(Karte.HERZ_BUBE);
+        spiel.dealRiver(Karte.KREUZ_VIER);
+
+        spiel.endHand();
+
+        assertEquals(1550, alice.getChipsImStack());
+        assertEquals(1500, bob.getChipsImStack());
+        assertEquals(0, spiel.getChipsImPot());
+    }
+
+    private void setzeChips(Spieler spieler, int chips) {
+
+        spiel.setzeAktivenSpieler(spieler, 1);
+        spiel.bet(spieler, chips);
+    }
+}
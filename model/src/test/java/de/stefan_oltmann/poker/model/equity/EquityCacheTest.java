@@ -0,0 +1,100 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+public class EquityCacheTest extends TestCase {
+
+    /*
+     * Herz und Pik vertauscht
+     */
+    private static final long[] HOLE_CARDS = {
+            KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG),
+            KartenMaske.von(Karte.PIK_ACHT, Karte.KREUZ_ACHT) };
+
+    private static final long BOARD = KartenMaske.von(Karte.HERZ_ZWEI, Karte.KARO_NEUN, Karte.HERZ_ZEHN);
+
+    private static final long[] HOLE_CARDS_VERTAUSCHT = {
+            KartenMaske.von(Karte.PIK_ASS, Karte.PIK_KOENIG),
+            KartenMaske.von(Karte.HERZ_ACHT, Karte.KREUZ_ACHT) };
+
+    private static final long BOARD_VERTAUSCHT = KartenMaske.von(Karte.PIK_ZWEI, Karte.KARO_NEUN, Karte.PIK_ZEHN);
+
+    public void testKanonisiere() {
+
+        assertTrue(Arrays.equals(
+                FarbSymmetrie.kanonisiere(HOLE_CARDS, BOARD),
+                FarbSymmetrie.kanonisiere(HOLE_CARDS_VERTAUSCHT, BOARD_VERTAUSCHT)));
+
+        /* Suited und offsuit dürfen nicht zusammenfallen. */
+        long[] offsuit = { KartenMaske.von(Karte.HERZ_ASS, Karte.PIK_KOENIG), HOLE_CARDS[1] };
+
+        assertFalse(Arrays.equals(
+                FarbSymmetrie.kanonisiere(HOLE_CARDS, BOARD),
+                FarbSymmetrie.kanonisiere(offsuit, BOARD)));
+    }
+
+    public void testBerechne_TrefferBeiVertauschtenFarben() {
+
+        EquityCache cache = new EquityCache(new EquityCalculator());
+
+        EquityErgebnis ergebnis = cache.berechne(HOLE_CARDS, BOARD);
+        EquityErgebnis vertauscht = cache.berechne(HOLE_CARDS_VERTAUSCHT, BOARD_VERTAUSCHT);
+
+        assertSame(ergebnis, vertauscht);
+        assertEquals(1, cache.getTreffer());
+        assertEquals(1, cache.getFehlschlaege());
+        assertEquals(0.5, cache.getTrefferquote(), 0);
+
+        EquityErgebnis exakt = new EquityCalculator().berechneExakt(HOLE_CARDS, BOARD);
+
+        assertEquals(exakt.getEquity(0), ergebnis.getEquity(0), 0.000001);
+    }
+
+    public void testBerechne_Verdraengung() {
+
+        EquityCache cache = new EquityCache(new EquityCalculator(), 16);
+
+        Karte[] karten = Karte.values();
+
+        /* Viele verschiedene Turns */
+        for (int i = 4; i < 40; i++) {
+
+            long board = KartenMaske.von(karten[0], karten[1], karten[2], karten[i]);
+
+            cache.berechne(new long[] {
+                    KartenMaske.von(karten[40], karten[41]),
+                    KartenMaske.von(karten[42], karten[43]) }, board);
+        }
+
+        assertTrue(cache.getAnzahlEintraege() <= 16);
+
+        cache.leeren();
+
+        assertEquals(0, cache.getAnzahlEintraege());
+    }
+}
@@ -0,0 +1,159 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+public class EquityCalculatorTest extends TestCase {
+
+    private EquityCalculator calculator;
+
+    @Override
+    protected void setUp() {
+        calculator = new EquityCalculator();
+    }
+
+    /*
+     * Asse gegen Könige gewinnen preflop in etwa 82 % der Fälle.
+     */
+    public void testBerechne_AsseGegenKoenige() {
+
+        EquityErgebnis ergebnis = calculator.berechne(
+                Arrays.<List<Karte>> asList(
+                        Arrays.asList(Karte.HERZ_ASS, Karte.KARO_ASS),
+                        Arrays.asList(Karte.PIK_KOENIG, Karte.KREUZ_KOENIG)),
+                Collections.<Karte> emptyList());
+
+        assertFalse(ergebnis.isExakt());
+        assertEquals(0.82, ergebnis.getEquity(0), 0.015);
+        assertEquals(1.0, ergebnis.getEquity(0) + ergebnis.getEquity(1), 0.000001);
+        assertTrue(ergebnis.getDurchlaeufeProSekunde() > 0);
+    }
+
+    public void testBerechne_RiverIstExakt() {
+
+        long[] holeCards = {
+                KartenMaske.von(Karte.HERZ_ASS, Karte.KARO_ASS),
+                KartenMaske.von(Karte.PIK_KOENIG, Karte.KREUZ_KOENIG) };
+
+        long board = KartenMaske.von(Karte.HERZ_ZWEI, Karte.KARO_SIEBEN,
+                Karte.PIK_NEUN, Karte.HERZ_BUBE, Karte.KREUZ_DREI);
+
+        EquityErgebnis ergebnis = calculator.berechne(holeCards, board);
+
+        assertTrue(ergebnis.isExakt());
+        assertEquals(1, ergebnis.getDurchlaeufe());
+        assertEquals(1.0, ergebnis.getSiegWahrscheinlichkeit(0), 0);
+        assertEquals(0.0, ergebnis.getEquity(1), 0);
+    }
+
+    /*
+     * Gleiche Werte auf einem Board in vier Farben werden immer geteilt, da
+     * kein Flush mehr möglich ist.
+     */
+    public void testBerechne_Unentschieden() {
+
+        long[] holeCards = {
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.KARO_DREI),
+                KartenMaske.von(Karte.PIK_ZWEI, Karte.KREUZ_DREI) };
+
+        long board = KartenMaske.von(Karte.PIK_ASS, Karte.KREUZ_KOENIG,
+                Karte.HERZ_ACHT, Karte.KARO_NEUN);
+
+        EquityErgebnis ergebnis = calculator.berechne(holeCards, board, 4711);
+
+        for (int spieler = 0; spieler < 2; spieler++) {
+            assertEquals(0, ergebnis.getSiegWahrscheinlichkeit(spieler), 0);
+            assertEquals(1, ergebnis.getUnentschiedenWahrscheinlichkeit(spieler), 0);
+            assertEquals(0.5, ergebnis.getEquity(spieler), 0);
+        }
+    }
+
+    /*
+     * Am Turn hilft den Königen nur noch einer der zwei übrigen Könige.
+     */
+    public void testBerechne_TurnIstExakt() {
+
+        long[] holeCards = {
+                KartenMaske.von(Karte.HERZ_ASS, Karte.KARO_ASS),
+                KartenMaske.von(Karte.PIK_KOENIG, Karte.KREUZ_KOENIG) };
+
+        long board = KartenMaske.von(Karte.HERZ_ZWEI, Karte.KARO_SIEBEN,
+                Karte.PIK_NEUN, Karte.KREUZ_BUBE);
+
+        EquityErgebnis ergebnis = calculator.berechne(holeCards, board);
+
+        assertTrue(ergebnis.isExakt());
+        assertEquals(44, ergebnis.getDurchlaeufe());
+        assertEquals(42.0 / 44, ergebnis.getSiegWahrscheinlichkeit(0), 0.000001);
+        assertEquals(2.0 / 44, ergebnis.getSiegWahrscheinlichkeit(1), 0.000001);
+    }
+
+    public void testBerechne_FlopExaktWieMonteCarlo() {
+
+        long[] holeCards = {
+                KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG),
+                KartenMaske.von(Karte.PIK_ACHT, Karte.KREUZ_ACHT),
+                KartenMaske.von(Karte.KARO_SIEBEN, Karte.KARO_SECHS) };
+
+        long board = KartenMaske.von(Karte.HERZ_ZWEI, Karte.KARO_NEUN, Karte.HERZ_ZEHN);
+
+        EquityErgebnis exakt = calculator.berechne(holeCards, board);
+
+        assertTrue(exakt.isExakt());
+        assertEquals(EquityCalculator.getAnzahlBoards(43, 2), exakt.getDurchlaeufe());
+
+        EquityCalculator monteCarlo = new EquityCalculator(ForkJoinPool.commonPool(),
+                1000000, 0, 10000, 0);
+
+        EquityErgebnis geschaetzt = monteCarlo.berechne(holeCards, board, 4711);
+
+        assertFalse(geschaetzt.isExakt());
+
+        for (int spieler = 0; spieler < holeCards.length; spieler++)
+            assertEquals(exakt.getEquity(spieler), geschaetzt.getEquity(spieler), 0.005);
+    }
+
+    public void testBerechne_KarteDoppelt() {
+
+        long[] holeCards = {
+                KartenMaske.von(Karte.HERZ_ASS, Karte.KARO_ASS),
+                KartenMaske.von(Karte.HERZ_ASS, Karte.KREUZ_KOENIG) };
+
+        try {
+
+            calculator.berechne(holeCards, KartenMaske.LEER);
+
+            fail("Es hätte eine Exception geben müssen.");
+
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+}
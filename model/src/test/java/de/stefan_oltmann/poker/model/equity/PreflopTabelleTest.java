@@ -0,0 +1,99 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+public class PreflopTabelleTest extends TestCase {
+
+    public void testKlassen() {
+
+        Set<String> bezeichnungen = new HashSet<String>();
+
+        int kombinationen = 0;
+
+        for (int klasse = 0; klasse < PreflopTabelle.ANZAHL_KLASSEN; klasse++) {
+
+            bezeichnungen.add(PreflopTabelle.getBezeichnung(klasse));
+
+            kombinationen += PreflopTabelle.getKombinationen(klasse).size();
+        }
+
+        assertEquals(169, bezeichnungen.size());
+        assertEquals(1326, kombinationen);
+
+        assertEquals("AKs", bezeichnung(Karte.HERZ_KOENIG, Karte.HERZ_ASS));
+        assertEquals("AKo", bezeichnung(Karte.HERZ_ASS, Karte.PIK_KOENIG));
+        assertEquals("QQ", bezeichnung(Karte.KARO_DAME, Karte.PIK_DAME));
+        assertEquals("32o", bezeichnung(Karte.KARO_ZWEI, Karte.PIK_DREI));
+    }
+
+    public void testGetKlasse_Maske() {
+
+        for (Karte karte1 : Karte.values())
+            for (Karte karte2 : Karte.values())
+                if (karte1 != karte2)
+                    assertEquals(karte1 + " " + karte2, PreflopTabelle.getKlasse(karte1, karte2),
+                            PreflopTabelle.getKlasse(KartenMaske.von(karte1, karte2)));
+    }
+
+    public void testGetEquity() {
+
+        long asse = KartenMaske.von(Karte.HERZ_ASS, Karte.KARO_ASS);
+        long koenige = KartenMaske.von(Karte.PIK_KOENIG, Karte.KREUZ_KOENIG);
+
+        assertEquals(0.82, PreflopTabelle.getEquity(asse, koenige), 0.01);
+
+        for (int klasse1 = 0; klasse1 < PreflopTabelle.ANZAHL_KLASSEN; klasse1++) {
+
+            assertEquals(0.5, PreflopTabelle.getEquity(klasse1, klasse1), 0.0001);
+
+            for (int klasse2 = 0; klasse2 < PreflopTabelle.ANZAHL_KLASSEN; klasse2++)
+                assertEquals(1.0, PreflopTabelle.getEquity(klasse1, klasse2)
+                        + PreflopTabelle.getEquity(klasse2, klasse1), 0.0001);
+        }
+    }
+
+    /*
+     * Die Tabelle muss zur exakten Aufzählung passen.
+     */
+    public void testGetEquity_wieExakteBerechnung() {
+
+        long holeCards1 = KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG);
+        long holeCards2 = KartenMaske.von(Karte.PIK_SIEBEN, Karte.KREUZ_SIEBEN);
+
+        EquityErgebnis ergebnis = new EquityCalculator().berechneExakt(
+                new long[] { holeCards1, holeCards2 }, KartenMaske.LEER);
+
+        /* Andere Farb-Kombinationen weichen etwas ab. */
+        assertEquals(ergebnis.getEquity(0), PreflopTabelle.getEquity(holeCards1, holeCards2), 0.01);
+    }
+
+    private static String bezeichnung(Karte karte1, Karte karte2) {
+        return PreflopTabelle.getBezeichnung(PreflopTabelle.getKlasse(karte1, karte2));
+    }
+}
@@ -0,0 +1,182 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.HandBewerter;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+public class RangeEquityCalculatorTest extends TestCase {
+
+    private RangeEquityCalculator calculator;
+
+    @Override
+    protected void setUp() {
+        calculator = new RangeEquityCalculator();
+    }
+
+    /*
+     * Mit je einer Kombination muss dasselbe herauskommen wie beim
+     * EquityCalculator.
+     */
+    public void testBerechne_HandGegenHandWieEquityCalculator() {
+
+        long holeCards1 = KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG);
+        long holeCards2 = KartenMaske.von(Karte.PIK_ACHT, Karte.KREUZ_ACHT);
+
+        long board = KartenMaske.von(Karte.HERZ_ZWEI, Karte.KARO_NEUN, Karte.HERZ_ZEHN);
+
+        RangeErgebnis ergebnis = calculator.berechne(Range.von(holeCards1), Range.von(holeCards2), board);
+
+        EquityErgebnis erwartet = new EquityCalculator().berechneExakt(
+                new long[] { holeCards1, holeCards2 }, board);
+
+        assertTrue(ergebnis.isExakt());
+        assertEquals(erwartet.getEquity(0), ergebnis.getEquity(0), 0.000001);
+        assertEquals(erwartet.getEquity(1), ergebnis.getEquity(1), 0.000001);
+    }
+
+    /*
+     * Card Removal: Hält der erste Spieler ein Ass, bleiben für AA nur noch
+     * drei Kombinationen übrig.
+     */
+    public void testBerechne_HandGegenRange_CardRemoval() {
+
+        long holeCards = KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG);
+
+        long board = KartenMaske.von(Karte.KARO_ZWEI, Karte.KARO_NEUN, Karte.PIK_ZEHN, Karte.KREUZ_DREI);
+
+        RangeErgebnis ergebnis = calculator.berechne(Range.von(holeCards), Range.parse("AA"), board);
+
+        double summe = 0;
+
+        for (long asse : new long[] {
+                KartenMaske.von(Karte.KREUZ_ASS, Karte.PIK_ASS),
+                KartenMaske.von(Karte.KREUZ_ASS, Karte.KARO_ASS),
+                KartenMaske.von(Karte.PIK_ASS, Karte.KARO_ASS) })
+            summe += new EquityCalculator().berechneExakt(new long[] { holeCards, asse }, board).getEquity(0);
+
+        assertEquals(summe / 3, ergebnis.getEquity(0), 0.000001);
+    }
+
+    public void testBerechne_RangeGegenRangePreflop() {
+
+        long start = System.nanoTime();
+
+        RangeErgebnis ergebnis = calculator.berechne("QQ+, AKs", "22+, A2s+, KTs+, QTs+, JTs, 76s-54s, AJo+",
+                KartenMaske.LEER);
+
+        long dauerMillis = (System.nanoTime() - start) / 1000000;
+
+        assertFalse(ergebnis.isExakt());
+        assertEquals(1.0, ergebnis.getEquity(0) + ergebnis.getEquity(1), 0.000001);
+        assertTrue(ergebnis.getEquity(0) > 0.6);
+        assertTrue("Dauer " + dauerMillis + "ms", dauerMillis < 5000);
+    }
+
+    /*
+     * Am River gibt es nur ein Board. Dort muss der sortierte Durchlauf
+     * dasselbe liefern wie der paarweise Vergleich aller Kombinationen, auch
+     * mit Gewichten und Kombinationen, die in beiden Ranges vorkommen.
+     */
+    public void testBerechne_RiverWiePaarweiserVergleich() {
+
+        Range range1 = Range.parse("22+, A2s+, KTs+, AJo+:0.5, 76s-54s, KhQh:0.25");
+        Range range2 = Range.parse("TT+:0.75, A5s-A2s, K9s+, QJs, JTs, ATo+, 65s");
+
+        long board = KartenMaske.von(Karte.HERZ_ASS, Karte.KARO_ZEHN, Karte.HERZ_SECHS,
+                Karte.PIK_FUENF, Karte.KREUZ_ZWEI);
+
+        RangeErgebnis ergebnis = calculator.berechne(range1, range2, board);
+
+        double siege1 = 0;
+        double siege2 = 0;
+        double unentschieden = 0;
+
+        for (int i = 0; i < range1.getAnzahl(); i++) {
+            for (int j = 0; j < range2.getAnzahl(); j++) {
+
+                long kombination1 = range1.getKombination(i);
+                long kombination2 = range2.getKombination(j);
+
+                if ((kombination1 & board) != 0 || (kombination2 & board) != 0
+                        || (kombination1 & kombination2) != 0)
+                    continue;
+
+                double gewicht = range1.getGewicht(i) * range2.getGewicht(j);
+
+                int rang1 = HandBewerter.bewerte(kombination1 | board);
+                int rang2 = HandBewerter.bewerte(kombination2 | board);
+
+                if (rang1 > rang2)
+                    siege1 += gewicht;
+                else if (rang1 < rang2)
+                    siege2 += gewicht;
+                else
+                    unentschieden += gewicht;
+            }
+        }
+
+        double gesamt = siege1 + siege2 + unentschieden;
+
+        assertTrue(ergebnis.isExakt());
+        assertEquals(siege1 / gesamt, ergebnis.getSiegWahrscheinlichkeit(0), 1E-9);
+        assertEquals(siege2 / gesamt, ergebnis.getSiegWahrscheinlichkeit(1), 1E-9);
+        assertEquals(unentschieden / gesamt, ergebnis.getUnentschiedenWahrscheinlichkeit(0), 1E-9);
+    }
+
+    /*
+     * Eine breite Range gegen fast alle Starthände: Mit dem paarweisen
+     * Vergleich dauerte das auf einem Kern fast 20 Sekunden, sortiert sind es
+     * etwa 2 Sekunden.
+     */
+    public void testBerechne_BreitGegenBreitPreflop() {
+
+        long start = System.nanoTime();
+
+        RangeErgebnis ergebnis = calculator.berechne("22+, A2s+, K9s+, QTs+, JTs, A9o+, KTo+",
+                "22+, A2s+, K2s+, Q2s+, J2s+, T2s+, 92s+, 82s+, 72s+, 62s+, 52s+, 42s+, 32s, "
+                        + "A2o+, K2o+, Q2o+, J2o+, T2o+, 92o+, 82o+, 72o+, 62o+, 52o+",
+                KartenMaske.LEER);
+
+        long dauerMillis = (System.nanoTime() - start) / 1000000;
+
+        assertFalse(ergebnis.isExakt());
+        assertEquals(1.0, ergebnis.getEquity(0) + ergebnis.getEquity(1), 0.000001);
+        assertTrue(ergebnis.getEquity(0) > 0.5);
+        assertTrue("Dauer " + dauerMillis + "ms", dauerMillis < 5000);
+    }
+
+    public void testWaehleBoard_Aufzaehlung() {
+
+        int[] indizes = new int[2];
+
+        RangeEquityCalculator.waehleBoard(0, 5, 2, indizes);
+        assertEquals(0, indizes[0]);
+        assertEquals(1, indizes[1]);
+
+        RangeEquityCalculator.waehleBoard(9, 5, 2, indizes);
+        assertEquals(3, indizes[0]);
+        assertEquals(4, indizes[1]);
+    }
+}
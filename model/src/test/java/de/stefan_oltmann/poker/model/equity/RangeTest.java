@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.equity;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+public class RangeTest extends TestCase {
+
+    public void testParse_Anzahl() {
+
+        assertEquals(6, Range.parse("QQ").getAnzahl());
+        assertEquals(18, Range.parse("QQ+").getAnzahl());
+        assertEquals(24, Range.parse("99-QQ").getAnzahl());
+        assertEquals(4, Range.parse("AKs").getAnzahl());
+        assertEquals(12, Range.parse("AKo").getAnzahl());
+        assertEquals(16, Range.parse("AK").getAnzahl());
+        assertEquals(16, Range.parse("ATs+").getAnzahl());
+        assertEquals(12, Range.parse("76s-54s").getAnzahl());
+        assertEquals(48, Range.parse("KQo-K9o").getAnzahl());
+        assertEquals(1, Range.parse("AhKh").getAnzahl());
+
+        /* Doppelte Kombinationen zählen nur einmal. */
+        assertEquals(22, Range.parse("QQ+, AKs, AhKh").getAnzahl());
+    }
+
+    public void testParse_Kombination() {
+
+        Range range = Range.parse("AhKh");
+
+        assertEquals(KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG), range.getKombination(0));
+        assertEquals(1.0, range.getGewicht(0), 0);
+    }
+
+    public void testParse_Gewicht() {
+
+        Range range = Range.parse("AA:0.5, KK");
+
+        assertEquals(12, range.getAnzahl());
+        assertEquals(0.5, range.getGewicht(0), 0);
+        assertEquals(1.0, range.getGewicht(11), 0);
+    }
+
+    public void testParse_Ungueltig() {
+
+        for (String notation : new String[] { "AX", "AKx", "AAs", "QQ-AKs", "AK:2", "AhAh" }) {
+
+            try {
+
+                Range.parse(notation);
+
+                fail("Es hätte eine Exception geben müssen: " + notation);
+
+            } catch (IllegalArgumentException e) {
+                /* Erwartet */
+            }
+        }
+    }
+
+    public void testOhne() {
+
+        Range range = Range.parse("AA").ohne(KartenMaske.von(Karte.HERZ_ASS));
+
+        assertEquals(3, range.getAnzahl());
+    }
+}
@@ -0,0 +1,198 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.Stack;
+
+import junit.framework.TestCase;
+
+public class DeckTest extends TestCase {
+
+    public void testHebeKarteAb_AlleKartenGenauEinmal() {
+
+        Deck deck = new Deck();
+
+        for (int runde = 0; runde < 3; runde++) {
+
+            deck.neuMischen();
+
+            Set<Karte> karten = EnumSet.noneOf(Karte.class);
+
+            for (int i = 0; i < Deck.ANZAHL_KARTEN; i++)
+                assertTrue(karten.add(deck.hebeKarteAb()));
+
+            assertEquals(0, deck.getAnzahlVerbleibenderKarten());
+        }
+    }
+
+    public void testHebeKarteAb_LeeresDeck() {
+
+        Deck deck = new Deck();
+
+        for (int i = 0; i < Deck.ANZAHL_KARTEN; i++)
+            deck.hebeKarteAb();
+
+        try {
+            deck.hebeKarteAb();
+            fail();
+        } catch (EmptyStackException e) {
+            /* Erwartet */
+        }
+    }
+
+    public void testMitSeed_GleicheReihenfolge() {
+
+        Deck deck1 = new Deck(Zufallsquelle.mitSeed(42));
+        Deck deck2 = new Deck(Zufallsquelle.mitSeed(42));
+
+        /* Im Voraus zu mischen ändert die Reihenfolge nicht. */
+        deck2.mische(9);
+
+        for (int i = 0; i < Deck.ANZAHL_KARTEN; i++)
+            assertEquals(deck1.hebeKarteAb(), deck2.hebeKarteAb());
+    }
+
+    public void testDeckMitSeed() {
+
+        Deck deck = new Deck(4711L);
+
+        assertEquals(Long.valueOf(4711L), deck.getSeed());
+        assertNull(new Deck().getSeed());
+
+        Deck vergleich = new Deck(Zufallsquelle.mitSeed(4711L));
+
+        for (int i = 0; i < Deck.ANZAHL_KARTEN; i++)
+            assertEquals(vergleich.hebeKarteAb(), deck.hebeKarteAb());
+    }
+
+    public void testDeckMitSicheremSeed() {
+
+        byte[] seed = new byte[Zufallsquelle.SICHERER_SEED_LAENGE];
+        seed[0] = 47;
+        seed[31] = 11;
+
+        Deck deck1 = new Deck(Variante.TEXAS_HOLDEM, seed);
+        Deck deck2 = new Deck(Variante.TEXAS_HOLDEM, seed.clone());
+
+        assertTrue(Arrays.equals(seed, deck1.getSichererSeed()));
+        assertNull(deck1.getSeed());
+        assertNull(new Deck(4711L).getSichererSeed());
+
+        /* Im Voraus zu mischen ändert die Reihenfolge nicht. */
+        deck2.mische(9);
+
+        for (int i = 0; i < Deck.ANZAHL_KARTEN; i++)
+            assertEquals(deck1.hebeKarteAb(), deck2.hebeKarteAb());
+    }
+
+    public void testDeckMitSicheremSeed_ZuKurz() {
+
+        try {
+            new Deck(Variante.TEXAS_HOLDEM, new byte[8]);
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+
+    public void testShortDeck() {
+
+        Deck deck = new Deck(Variante.SHORT_DECK, 1L);
+
+        long karten = KartenMaske.LEER;
+
+        for (int i = 0; i < 36; i++)
+            karten |= KartenMaske.von(deck.hebeKarteAb());
+
+        assertEquals(ShortDeckBewerter.KARTEN, karten);
+        assertEquals(0, deck.getAnzahlVerbleibenderKarten());
+
+        deck.neuMischen();
+
+        assertEquals(36, deck.getAnzahlVerbleibenderKarten());
+    }
+
+    public void testSetKarten() {
+
+        Stack<Karte> stack = new Stack<Karte>();
+        stack.push(Karte.KREUZ_ZWEI);
+        stack.push(Karte.HERZ_ASS);
+
+        Deck deck = new Deck();
+        deck.setKarten(stack);
+
+        assertEquals(stack, deck.getKarten());
+        assertEquals(Karte.HERZ_ASS, deck.hebeKarteAb());
+        assertEquals(Karte.KREUZ_ZWEI, deck.hebeKarteAb());
+        assertEquals(0, deck.getAnzahlVerbleibenderKarten());
+
+        deck.neuMischen();
+
+        assertEquals(Deck.ANZAHL_KARTEN, deck.getAnzahlVerbleibenderKarten());
+    }
+
+    public void testGetKarten_NaechsteKarteOben() {
+
+        Deck deck = new Deck();
+
+        deck.hebeKarteAb();
+
+        Stack<Karte> stack = deck.getKarten();
+
+        assertEquals(Deck.ANZAHL_KARTEN - 1, stack.size());
+        assertEquals(stack.peek(), deck.hebeKarteAb());
+    }
+
+    /*
+     * Jede Karte muss an jeder Stelle ungefähr gleich häufig liegen.
+     */
+    public void testGleichverteilung() {
+        assertGleichverteilt(new Deck(Zufallsquelle.mitSeed(1)));
+    }
+
+    public void testGleichverteilung_SichererSeed() {
+        assertGleichverteilt(new Deck(Variante.TEXAS_HOLDEM, new byte[Zufallsquelle.SICHERER_SEED_LAENGE]));
+    }
+
+    private static void assertGleichverteilt(Deck deck) {
+
+        int durchlaeufe = 52000;
+
+        int[][] haeufigkeiten = new int[3][Deck.ANZAHL_KARTEN];
+
+        for (int i = 0; i < durchlaeufe; i++) {
+
+            deck.neuMischen();
+
+            for (int stelle = 0; stelle < 3; stelle++)
+                haeufigkeiten[stelle][deck.hebeKartenIndexAb()]++;
+        }
+
+        for (int[] stelle : haeufigkeiten)
+            for (int haeufigkeit : stelle)
+                assertEquals(1000, haeufigkeit, 150);
+    }
+}
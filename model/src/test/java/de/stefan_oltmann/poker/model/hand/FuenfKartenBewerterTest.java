@@ -0,0 +1,103 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class FuenfKartenBewerterTest extends TestCase {
+
+    /*
+     * Alle 2.598.960 Hände aus fünf Karten müssen denselben Rang wie beim
+     * HandBewerter haben.
+     */
+    public void testBewerte_alleFuenfKarten() {
+
+        long[] karten = new long[52];
+
+        for (int i = 0; i < karten.length; i++)
+            karten[i] = KartenMaske.von(Karte.values()[i]);
+
+        int anzahl = 0;
+
+        for (int a = 0; a < 52; a++)
+            for (int b = a + 1; b < 52; b++)
+                for (int c = b + 1; c < 52; c++)
+                    for (int d = c + 1; d < 52; d++)
+                        for (int e = d + 1; e < 52; e++) {
+
+                            long maske = karten[a] | karten[b] | karten[c] | karten[d] | karten[e];
+
+                            assertEquals(HandBewerter.bewerte(maske), FuenfKartenBewerter.bewerte(maske));
+
+                            anzahl++;
+                        }
+
+        assertEquals(2598960, anzahl);
+    }
+
+    public void testBewerteSechs_wieHandBewerter() {
+
+        Random random = new Random(4711);
+
+        Karte[] karten = Karte.values();
+
+        for (int i = 0; i < 200000; i++) {
+
+            long maske = KartenMaske.LEER;
+
+            while (KartenMaske.getAnzahl(maske) < 6)
+                maske |= KartenMaske.von(karten[random.nextInt(karten.length)]);
+
+            assertEquals(KartenMaske.toString(maske),
+                    HandBewerter.bewerte(maske), FuenfKartenBewerter.bewerteSechs(maske));
+        }
+    }
+
+    public void testBewerte_Flop() {
+
+        int rang = FuenfKartenBewerter.bewerte(Arrays.asList(
+                Karte.HERZ_ASS,
+                Karte.HERZ_ZWEI,
+                Karte.HERZ_DREI,
+                Karte.HERZ_VIER,
+                Karte.HERZ_FUENF));
+
+        assertEquals(Kombination.STRAIGTH_FLUSH, HandBewerter.getKombination(rang));
+    }
+
+    public void testBewerte_Turn() {
+
+        int rang = FuenfKartenBewerter.bewerte(Arrays.asList(
+                Karte.HERZ_ASS,
+                Karte.KARO_ASS,
+                Karte.HERZ_DREI,
+                Karte.PIK_DREI,
+                Karte.KREUZ_DREI,
+                Karte.KARO_FUENF));
+
+        assertEquals(Kombination.FULL_HOUSE, HandBewerter.getKombination(rang));
+    }
+}
@@ -0,0 +1,174 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class HandBewerterTest extends TestCase {
+
+    /*
+     * KartenMaske
+     */
+
+    public void testKartenMaske_Umwandlung() {
+
+        for (Karte karte : Karte.values()) {
+
+            long maske = KartenMaske.von(karte);
+
+            assertEquals(1, KartenMaske.getAnzahl(maske));
+            assertEquals(karte, KartenMaske.getKarte(KartenMaske.getBitIndex(karte)));
+            assertTrue(KartenMaske.enthaelt(maske, karte));
+        }
+
+        assertEquals(52, KartenMaske.getAnzahl(KartenMaske.ALLE));
+        assertEquals(KartenMaske.ALLE, KartenMaske.von(Karte.values()));
+    }
+
+    public void testKartenMaske_WertMaske() {
+
+        long maske = KartenMaske.von(
+                Karte.HERZ_ASS,
+                Karte.KARO_ASS,
+                Karte.PIK_ZWEI);
+
+        assertEquals(1 << 12 | 1, KartenMaske.getWertMaske(maske));
+        assertEquals(1 << 12, KartenMaske.getWertMaske(maske, Karte.Farbe.HERZ));
+        assertEquals(0, KartenMaske.getWertMaske(maske, Karte.Farbe.KREUZ));
+    }
+
+    /*
+     * Kombinationen
+     */
+
+    public void testBewerte_HoechsteKarte() {
+
+        assertKombination(Kombination.HOECHSTE_KARTE,
+                Karte.HERZ_ASS, Karte.KARO_SIEBEN, Karte.HERZ_SECHS,
+                Karte.KARO_BUBE, Karte.PIK_ACHT, Karte.KARO_DAME, Karte.PIK_ZWEI);
+    }
+
+    public void testBewerte_ZweiPaare_mitDrittemPaar() {
+
+        /* Das dritte Paar zählt nur noch als Kicker. */
+        int rang = assertKombination(Kombination.ZWEI_PAARE,
+                Karte.HERZ_ZEHN, Karte.KARO_ZEHN, Karte.PIK_SIEBEN,
+                Karte.HERZ_SIEBEN, Karte.HERZ_SECHS, Karte.KARO_SECHS, Karte.PIK_ZWEI);
+
+        assertEquals(8 << 16 | 5 << 12 | 4 << 8, rang & 0xFFFFF);
+    }
+
+    public void testBewerte_Strasse_mitAssAls1() {
+
+        int rang = assertKombination(Kombination.STRASSE,
+                Karte.HERZ_ASS, Karte.KARO_ZWEI, Karte.PIK_DREI,
+                Karte.HERZ_VIER, Karte.KREUZ_FUENF, Karte.KARO_KOENIG);
+
+        /* Die Fünf ist die höchste Karte */
+        assertEquals(3 << 16, rang & 0xFFFFF);
+    }
+
+    public void testBewerte_FullHouse_ausZweiDrillingen() {
+
+        int rang = assertKombination(Kombination.FULL_HOUSE,
+                Karte.HERZ_SIEBEN, Karte.KARO_SIEBEN, Karte.PIK_SIEBEN,
+                Karte.HERZ_DAME, Karte.KARO_DAME, Karte.PIK_DAME, Karte.PIK_ZWEI);
+
+        assertEquals(10 << 16 | 5 << 12, rang & 0xFFFFF);
+    }
+
+    /*
+     * Flush und Straße in unterschiedlichen Karten ergeben keinen Straight
+     * Flush.
+     */
+    public void testBewerte_FlushUndStrasse_keinStraightFlush() {
+
+        assertKombination(Kombination.FLUSH,
+                Karte.HERZ_NEUN, Karte.HERZ_ACHT, Karte.HERZ_SIEBEN,
+                Karte.HERZ_SECHS, Karte.PIK_FUENF, Karte.HERZ_ZWEI);
+    }
+
+    public void testBewerte_StraightFlush() {
+
+        assertKombination(Kombination.STRAIGTH_FLUSH,
+                Karte.HERZ_NEUN, Karte.HERZ_ACHT, Karte.HERZ_SIEBEN,
+                Karte.HERZ_SECHS, Karte.HERZ_FUENF, Karte.PIK_ZEHN, Karte.PIK_ASS);
+    }
+
+    public void testBewerte_RoyalFlush() {
+
+        assertKombination(Kombination.ROYAL_FLUSH,
+                Karte.PIK_ASS, Karte.PIK_KOENIG, Karte.PIK_DAME,
+                Karte.PIK_BUBE, Karte.PIK_ZEHN, Karte.HERZ_ASS, Karte.KARO_ASS);
+    }
+
+    public void testBewerte_Vierling_mitKicker() {
+
+        int rang = assertKombination(Kombination.VIERLING,
+                Karte.KREUZ_ACHT, Karte.PIK_ACHT, Karte.HERZ_ACHT,
+                Karte.KARO_ACHT, Karte.PIK_SIEBEN, Karte.KARO_KOENIG);
+
+        assertEquals(6 << 16 | 11 << 12, rang & 0xFFFFF);
+    }
+
+    /*
+     * Vergleich
+     */
+
+    public void testBewerte_KickerEntscheidet() {
+
+        int rangMitDameKicker = HandBewerter.bewerte(KartenMaske.von(
+                Karte.HERZ_ASS, Karte.KARO_ASS, Karte.PIK_DAME,
+                Karte.HERZ_SIEBEN, Karte.KARO_ZWEI));
+
+        int rangMitBubeKicker = HandBewerter.bewerte(KartenMaske.von(
+                Karte.PIK_ASS, Karte.KREUZ_ASS, Karte.PIK_BUBE,
+                Karte.HERZ_ZEHN, Karte.KARO_NEUN));
+
+        assertTrue(rangMitDameKicker > rangMitBubeKicker);
+    }
+
+    public void testBewerte_RangFolgtKombination() {
+
+        int vorherigerRang = Integer.MAX_VALUE;
+
+        for (Kombination kombination : Kombination.values()) {
+
+            int rang = kombination.getWert() << HandBewerter.KOMBINATION_SHIFT;
+
+            assertTrue(rang < vorherigerRang);
+            assertEquals(kombination, HandBewerter.getKombination(rang));
+
+            vorherigerRang = rang;
+        }
+    }
+
+    private static int assertKombination(Kombination erwartet, Karte... karten) {
+
+        int rang = HandBewerter.bewerte(KartenMaske.von(karten));
+
+        assertEquals(erwartet, HandBewerter.getKombination(rang));
+
+        return rang;
+    }
+}
@@ -0,0 +1,123 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class HandZustandTest extends TestCase {
+
+    public void testFuegeHinzu() {
+
+        HandZustand handZustand = new HandZustand();
+
+        assertNull(handZustand.getKombination());
+
+        handZustand.fuegeHinzu(Karte.HERZ_ASS);
+        handZustand.fuegeHinzu(Karte.HERZ_KOENIG);
+
+        assertEquals(Kombination.HOECHSTE_KARTE, handZustand.getKombination());
+
+        handZustand.fuegeHinzu(Karte.HERZ_DAME);
+        handZustand.fuegeHinzu(Karte.PIK_ASS);
+        handZustand.fuegeHinzu(Karte.HERZ_ZEHN);
+
+        assertEquals(Kombination.EIN_PAAR, handZustand.getKombination());
+        assertEquals(4, handZustand.getAnzahl(Karte.Farbe.HERZ));
+        assertEquals(2, handZustand.getAnzahl(Karte.Wert.ASS));
+
+        handZustand.fuegeHinzu(Karte.HERZ_BUBE);
+
+        assertEquals(Kombination.ROYAL_FLUSH, handZustand.getKombination());
+        assertEquals(6, handZustand.getAnzahlKarten());
+    }
+
+    /*
+     * Der Rang muss immer dem der kompletten Neubewertung entsprechen.
+     */
+    public void testFuegeHinzu_wieHandBewerter() {
+
+        HandZustand handZustand = new HandZustand();
+
+        Karte[] karten = { Karte.KARO_SIEBEN, Karte.PIK_SIEBEN, Karte.HERZ_ZWEI,
+                Karte.KREUZ_SIEBEN, Karte.KARO_ZWEI, Karte.PIK_ASS, Karte.KARO_SIEBEN };
+
+        long maske = KartenMaske.LEER;
+
+        for (int i = 0; i < 6; i++) {
+
+            handZustand.fuegeHinzu(karten[i]);
+
+            maske |= KartenMaske.von(karten[i]);
+
+            assertEquals(HandBewerter.bewerte(maske), handZustand.getRang());
+        }
+
+        try {
+
+            handZustand.fuegeHinzu(karten[6]);
+
+            fail("Es hätte eine Exception geben müssen.");
+
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+
+    public void testFuegeHinzu_ShortDeck() {
+
+        HandZustand handZustand = new HandZustand(Variante.SHORT_DECK);
+
+        /* Im Short Deck ist A-6-7-8-9 die niedrigste Straße. */
+        Karte[] karten = { Karte.PIK_ASS, Karte.HERZ_SECHS, Karte.KARO_SIEBEN, Karte.KREUZ_ACHT,
+                Karte.PIK_NEUN };
+
+        for (Karte karte : karten)
+            handZustand.fuegeHinzu(karte);
+
+        assertEquals(Kombination.STRASSE, handZustand.getKombination());
+        assertEquals(ShortDeckBewerter.bewerte(KartenMaske.von(karten)), handZustand.getRang());
+        assertEquals(handZustand.getRang(), Variante.SHORT_DECK.bewerte(handZustand));
+
+        /* Für eine andere Variante wird neu bewertet. */
+        assertEquals(HandBewerter.bewerte(KartenMaske.von(karten)), Variante.TEXAS_HOLDEM.bewerte(handZustand));
+
+        handZustand.zuruecksetzen(Variante.TEXAS_HOLDEM);
+
+        for (Karte karte : karten)
+            handZustand.fuegeHinzu(karte);
+
+        assertEquals(Kombination.HOECHSTE_KARTE, handZustand.getKombination());
+    }
+
+    public void testZuruecksetzen() {
+
+        HandZustand handZustand = new HandZustand();
+
+        handZustand.fuegeHinzu(Karte.HERZ_ASS);
+        handZustand.zuruecksetzen();
+
+        assertEquals(0, handZustand.getAnzahlKarten());
+        assertEquals(0, handZustand.getAnzahl(Karte.Farbe.HERZ));
+        assertEquals(0, handZustand.getRang());
+    }
+}
@@ -0,0 +1,114 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import junit.framework.TestCase;
+
+public class KartenCodecTest extends TestCase {
+
+    public void testIndexUndByte() {
+
+        for (Karte karte : Karte.values()) {
+
+            assertSame(karte, KartenCodec.getKarte(KartenCodec.getIndex(karte)));
+            assertSame(karte, KartenCodec.vonByte(KartenCodec.toByte(karte)));
+        }
+
+        assertEquals(0, KartenCodec.getIndex(Karte.KREUZ_ASS));
+        assertEquals(51, KartenCodec.getIndex(Karte.KARO_ZWEI));
+    }
+
+    public void testTabellen() {
+
+        for (Karte karte : Karte.values()) {
+
+            int index = KartenCodec.getIndex(karte);
+
+            assertEquals(KartenMaske.getRang(karte.wert), KartenCodec.getRang(index));
+            assertEquals(karte.farbe.ordinal(), KartenCodec.getFarbe(index));
+            assertEquals(karte.farbe.ordinal() * 16 + KartenCodec.getRang(index), KartenCodec.getBitIndex(index));
+            assertEquals(1L << KartenCodec.getBitIndex(index), KartenCodec.getMaske(index));
+            assertEquals(index, KartenCodec.getIndexVonBit(KartenCodec.getBitIndex(index)));
+        }
+
+        assertEquals(2, KartenCodec.getPrimzahl(KartenCodec.getIndex(Karte.HERZ_ZWEI)));
+        assertEquals(41, KartenCodec.getPrimzahl(KartenCodec.getIndex(Karte.PIK_ASS)));
+    }
+
+    public void testGetIndexVonBit_ungueltig() {
+
+        try {
+            KartenCodec.getIndexVonBit(13);
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* erwartet */
+        }
+
+        try {
+            KartenCodec.getIndexVonBit(64);
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* erwartet */
+        }
+    }
+
+    public void testBytes() {
+
+        long maske = KartenMaske.von(Karte.KARO_ZWEI, Karte.KREUZ_ZEHN, Karte.KREUZ_ASS, Karte.HERZ_DAME);
+
+        byte[] codes = KartenCodec.toBytes(maske);
+
+        assertTrue(Arrays.equals(new byte[] {
+                KartenCodec.toByte(Karte.KREUZ_ASS),
+                KartenCodec.toByte(Karte.KREUZ_ZEHN),
+                KartenCodec.toByte(Karte.HERZ_DAME),
+                KartenCodec.toByte(Karte.KARO_ZWEI) }, codes));
+
+        assertEquals(maske, KartenCodec.vonBytes(codes));
+
+        assertEquals(Deck.ANZAHL_KARTEN, KartenCodec.toBytes(KartenMaske.ALLE).length);
+        assertEquals(0, KartenCodec.toBytes(KartenMaske.LEER).length);
+    }
+
+    public void testEnumSet() {
+
+        EnumSet<Karte> karten = EnumSet.of(Karte.PIK_BUBE, Karte.HERZ_VIER, Karte.KARO_ASS);
+
+        long maske = KartenCodec.vonEnumSet(karten);
+
+        assertEquals(KartenMaske.von(karten), maske);
+        assertEquals(karten, KartenCodec.toEnumSet(maske));
+        assertEquals(EnumSet.allOf(Karte.class), KartenMaske.getKartenSet(KartenMaske.ALLE));
+    }
+
+    public void testGetKartenMitWert() {
+
+        long maske = KartenMaske.von(Karte.PIK_BUBE, Karte.HERZ_BUBE, Karte.KARO_ASS);
+
+        assertEquals(KartenMaske.von(Karte.PIK_BUBE, Karte.HERZ_BUBE),
+                KartenMaske.getKartenMitWert(maske, Karte.Wert.BUBE));
+        assertEquals(KartenMaske.LEER, KartenMaske.getKartenMitWert(maske, Karte.Wert.ZWEI));
+    }
+}
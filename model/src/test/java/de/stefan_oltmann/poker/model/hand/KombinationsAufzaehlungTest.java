@@ -0,0 +1,67 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class KombinationsAufzaehlungTest extends TestCase {
+
+    /* C(52, 6) */
+    public void testZaehle_6Karten() {
+
+        KombinationsStatistik statistik = new KombinationsAufzaehlung().zaehle(6);
+
+        assertEquals(20358520, statistik.getAnzahlHaende());
+        assertEquals(188, statistik.getHaeufigkeit(Kombination.ROYAL_FLUSH));
+        assertEquals(0, statistik.getStandardfehler(Kombination.ROYAL_FLUSH), 0);
+    }
+
+    /* Alle Hände aus fünf Karten über FuenfKartenBewerter und Hand */
+    public void testZaehle_BewerterGleich() {
+
+        KombinationsStatistik erwartet = new KombinationsAufzaehlung().zaehle(5);
+
+        KombinationsStatistik fuenfKarten = new KombinationsAufzaehlung(ForkJoinPool.commonPool(),
+                karten -> HandBewerter.getKombination(FuenfKartenBewerter.bewerte(karten))).zaehle(5);
+
+        KombinationsStatistik hand = new KombinationsAufzaehlung(ForkJoinPool.commonPool(),
+                KombinationsSimulation.HAND).zaehle(5);
+
+        for (Kombination kombination : Kombination.values()) {
+            assertEquals(erwartet.getHaeufigkeit(kombination), fuenfKarten.getHaeufigkeit(kombination));
+            assertEquals(erwartet.getHaeufigkeit(kombination), hand.getHaeufigkeit(kombination));
+        }
+    }
+
+    public void testZaehle_ungueltigeKartenAnzahl() {
+
+        try {
+            new KombinationsAufzaehlung().zaehle(4);
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* erwartet */
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class KombinationsSimulationTest extends TestCase {
+
+    public void testSimuliere_gleicherSeedGleichesErgebnis() {
+
+        KombinationsStatistik statistik1 = new KombinationsSimulation(
+                new ForkJoinPool(1), KombinationsSimulation.HAND_BEWERTER).simuliere(300000, 7, 42);
+
+        KombinationsStatistik statistik2 = new KombinationsSimulation(
+                new ForkJoinPool(4), KombinationsSimulation.HAND_BEWERTER).simuliere(300000, 7, 42);
+
+        assertEquals(300000, statistik1.getAnzahlHaende());
+
+        for (Kombination kombination : Kombination.values())
+            assertEquals(statistik1.getHaeufigkeit(kombination), statistik2.getHaeufigkeit(kombination));
+    }
+
+    public void testSimuliere_HandWieHandBewerter() {
+
+        KombinationsStatistik statistik1 = new KombinationsSimulation(
+                ForkJoinPool.commonPool(), KombinationsSimulation.HAND_BEWERTER).simuliere(50000, 6, 7);
+
+        KombinationsStatistik statistik2 = new KombinationsSimulation(
+                ForkJoinPool.commonPool(), KombinationsSimulation.HAND).simuliere(50000, 6, 7);
+
+        for (Kombination kombination : Kombination.values())
+            assertEquals(statistik1.getHaeufigkeit(kombination), statistik2.getHaeufigkeit(kombination));
+    }
+
+    public void testKonfidenzintervall() {
+
+        KombinationsStatistik statistik = new KombinationsStatistik(new long[] { 0, 0, 0, 0, 0, 0, 0, 0, 50, 50 }, false, 0);
+
+        assertEquals(0.5, statistik.getAnteil(Kombination.EIN_PAAR), 0);
+        assertEquals(0.05, statistik.getStandardfehler(Kombination.EIN_PAAR), 1E-12);
+        assertEquals(1.96 * 0.05, statistik.getKonfidenzintervall(Kombination.EIN_PAAR), 1E-12);
+
+        assertFalse(statistik.isExakt());
+    }
+
+    public void testSimuliere_ungueltigeKartenAnzahl() {
+
+        try {
+            new KombinationsSimulation().simuliere(1, 8, 0);
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* erwartet */
+        }
+    }
+}
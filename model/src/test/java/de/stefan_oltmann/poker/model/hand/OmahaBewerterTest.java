@@ -0,0 +1,108 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class OmahaBewerterTest extends TestCase {
+
+    /*
+     * Zufällige Hände müssen denselben Rang haben wie die beste der
+     * Kombinationen aus 2 Hole Cards und 3 Board-Karten, jede einzeln mit
+     * dem HandBewerter bewertet.
+     */
+    public void testBewerte_wieAlleKombinationen() {
+
+        Random random = new Random(42);
+
+        Karte[] karten = Karte.values();
+
+        for (int i = 0; i < 20000; i++) {
+
+            Collections.shuffle(Arrays.asList(karten), random);
+
+            int anzahlBoardKarten = 3 + i % 3;
+
+            long holeCards = KartenMaske.von(Arrays.copyOfRange(karten, 0, 4));
+            long board = KartenMaske.von(Arrays.copyOfRange(karten, 4, 4 + anzahlBoardKarten));
+
+            assertEquals(bewerteNaiv(karten, anzahlBoardKarten), OmahaBewerter.bewerte(holeCards, board));
+        }
+    }
+
+    /*
+     * Vier Herz auf dem Board und nur ein Herz auf der Hand ergeben beim
+     * Omaha keinen Flush.
+     */
+    public void testBewerte_KeinFlushMitEinerHoleCard() {
+
+        int rang = OmahaBewerter.bewerte(
+                KartenMaske.von(Karte.HERZ_ASS, Karte.PIK_ASS, Karte.KREUZ_ZWEI, Karte.KARO_SIEBEN),
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.HERZ_FUENF, Karte.HERZ_NEUN, Karte.HERZ_BUBE,
+                        Karte.KREUZ_KOENIG));
+
+        assertEquals(Kombination.EIN_PAAR, HandBewerter.getKombination(rang));
+    }
+
+    /*
+     * Ein Vierling auf der Hand zählt nur als Paar.
+     */
+    public void testBewerte_NurZweiHoleCards() {
+
+        int rang = OmahaBewerter.bewerte(
+                KartenMaske.von(Karte.HERZ_ASS, Karte.PIK_ASS, Karte.KREUZ_ASS, Karte.KARO_ASS),
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.PIK_SIEBEN, Karte.KARO_NEUN));
+
+        assertEquals(Kombination.EIN_PAAR, HandBewerter.getKombination(rang));
+    }
+
+    public void testBewerte_UngueltigeAnzahl() {
+
+        try {
+            OmahaBewerter.bewerte(KartenMaske.von(Karte.HERZ_ASS, Karte.PIK_ASS),
+                    KartenMaske.von(Karte.HERZ_ZWEI, Karte.PIK_SIEBEN, Karte.KARO_NEUN));
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+
+    private static int bewerteNaiv(Karte[] karten, int anzahlBoardKarten) {
+
+        int besterRang = 0;
+
+        for (int a = 0; a < 4; a++)
+            for (int b = a + 1; b < 4; b++)
+                for (int c = 4; c < 4 + anzahlBoardKarten; c++)
+                    for (int d = c + 1; d < 4 + anzahlBoardKarten; d++)
+                        for (int e = d + 1; e < 4 + anzahlBoardKarten; e++)
+                            besterRang = Math.max(besterRang,
+                                    HandBewerter.bewerte(KartenMaske.von(karten[a], karten[b], karten[c], karten[d], karten[e])));
+
+        return besterRang;
+    }
+}
@@ -0,0 +1,140 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class OutsAnalyseTest extends TestCase {
+
+    /*
+     * Flush Draw mit Overcards: neun Flush-Karten
+     */
+    public void testAnalysiere_FlushDraw() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG),
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.HERZ_SIEBEN, Karte.PIK_NEUN));
+
+        assertTrue(analyse.isFlushDraw());
+        assertFalse(analyse.isOpenEnder());
+        assertEquals(Kombination.HOECHSTE_KARTE, analyse.getKombination());
+        assertEquals(9, KartenMaske.getAnzahl(analyse.getOuts(Kombination.FLUSH)));
+
+        /* Drei Asse und drei Könige machen ein Paar. */
+        assertEquals(6, KartenMaske.getAnzahl(analyse.getOuts(Kombination.EIN_PAAR)));
+    }
+
+    public void testAnalysiere_OpenEnder() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.HERZ_NEUN, Karte.PIK_ACHT),
+                KartenMaske.von(Karte.KARO_SIEBEN, Karte.KREUZ_SECHS, Karte.PIK_ZWEI, Karte.HERZ_KOENIG));
+
+        assertTrue(analyse.isOpenEnder());
+        assertFalse(analyse.isGutshot());
+        assertEquals(8, KartenMaske.getAnzahl(analyse.getOuts(Kombination.STRASSE)));
+    }
+
+    public void testAnalysiere_Gutshot() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.HERZ_NEUN, Karte.PIK_ACHT),
+                KartenMaske.von(Karte.KARO_SECHS, Karte.KREUZ_FUENF, Karte.PIK_KOENIG));
+
+        assertTrue(analyse.isGutshot());
+        assertFalse(analyse.isOpenEnder());
+        assertEquals(4, KartenMaske.getAnzahl(analyse.getOuts(Kombination.STRASSE)));
+    }
+
+    public void testAnalysiere_Backdoor() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.HERZ_NEUN, Karte.HERZ_ACHT),
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.KREUZ_SIEBEN, Karte.PIK_KOENIG));
+
+        assertTrue(analyse.isBackdoorFlushDraw());
+        assertTrue(analyse.isBackdoorStrassenDraw());
+        assertFalse(analyse.isFlushDraw());
+        assertFalse(analyse.isOpenEnder());
+        assertFalse(analyse.isGutshot());
+    }
+
+    /*
+     * Eine Straße allein auf dem Board ist kein Draw des Spielers.
+     */
+    public void testAnalysiere_StrasseNurAufDemBoard() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.PIK_ZWEI),
+                KartenMaske.von(Karte.KARO_NEUN, Karte.KREUZ_ACHT, Karte.PIK_SIEBEN, Karte.HERZ_SECHS));
+
+        assertFalse(analyse.isOpenEnder());
+        assertFalse(analyse.isGutshot());
+    }
+
+    /*
+     * Auf dem gepaarten Board macht die dritte Sieben nur einen Drilling für
+     * alle und die Zwei zwei Paare für alle. Outs sind nur Asse und Könige.
+     */
+    public void testAnalysiere_GepaartesBoard() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.HERZ_ASS, Karte.KREUZ_KOENIG),
+                KartenMaske.von(Karte.PIK_SIEBEN, Karte.KARO_SIEBEN, Karte.KREUZ_ZWEI));
+
+        assertEquals(Kombination.EIN_PAAR, analyse.getKombination());
+        assertEquals(6, KartenMaske.getAnzahl(analyse.getOuts(Kombination.ZWEI_PAARE)));
+        assertEquals(0, analyse.getOuts(Kombination.DRILLING));
+        assertEquals(6, analyse.getAnzahlOuts());
+    }
+
+    /*
+     * Bei vier Herz auf dem Board macht jedes weitere Herz den Flush für
+     * alle. Auch Herz Ass und Herz König zählen deshalb nicht.
+     */
+    public void testAnalysiere_VierFarbenAufDemBoard() {
+
+        OutsAnalyse analyse = OutsAnalyse.analysiere(
+                KartenMaske.von(Karte.PIK_ASS, Karte.KREUZ_KOENIG),
+                KartenMaske.von(Karte.HERZ_ZWEI, Karte.HERZ_FUENF, Karte.HERZ_ACHT, Karte.HERZ_BUBE));
+
+        assertFalse(analyse.isFlushDraw());
+        assertEquals(0, analyse.getOuts(Kombination.FLUSH));
+        assertEquals(KartenMaske.von(Karte.KARO_ASS, Karte.KREUZ_ASS, Karte.PIK_KOENIG, Karte.KARO_KOENIG),
+                analyse.getOuts(Kombination.EIN_PAAR));
+        assertEquals(4, analyse.getAnzahlOuts());
+    }
+
+    public void testAnalysiere_NurFlopUndTurn() {
+
+        try {
+
+            OutsAnalyse.analysiere(KartenMaske.von(Karte.HERZ_ZWEI, Karte.PIK_ZWEI), KartenMaske.LEER);
+
+            fail("Es hätte eine Exception geben müssen.");
+
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+}
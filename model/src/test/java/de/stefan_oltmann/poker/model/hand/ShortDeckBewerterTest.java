@@ -0,0 +1,139 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class ShortDeckBewerterTest extends TestCase {
+
+    private static final int WHEEL = 1 << 12 | 0xF0;
+
+    public void testBewerte_Wheel() {
+
+        int rang = ShortDeckBewerter.bewerte(KartenMaske.von(Karte.HERZ_ASS, Karte.PIK_SECHS,
+                Karte.KREUZ_SIEBEN, Karte.KARO_ACHT, Karte.HERZ_NEUN));
+
+        assertEquals(Kombination.STRASSE, ShortDeckBewerter.getKombination(rang));
+
+        /* Die niedrigste Straße */
+        int sechsBisZehn = ShortDeckBewerter.bewerte(KartenMaske.von(Karte.HERZ_SECHS, Karte.PIK_SIEBEN,
+                Karte.KREUZ_ACHT, Karte.KARO_NEUN, Karte.HERZ_ZEHN));
+
+        assertTrue(sechsBisZehn > rang);
+    }
+
+    public void testBewerte_FlushSchlaegtFullHouse() {
+
+        int rang = ShortDeckBewerter.bewerte(KartenMaske.von(Karte.HERZ_ASS, Karte.HERZ_KOENIG,
+                Karte.HERZ_SECHS, Karte.HERZ_ACHT, Karte.HERZ_ZEHN, Karte.PIK_ASS, Karte.KREUZ_ASS));
+
+        assertEquals(Kombination.FLUSH, ShortDeckBewerter.getKombination(rang));
+
+        int fullHouse = ShortDeckBewerter.bewerte(KartenMaske.von(Karte.HERZ_ASS, Karte.PIK_ASS,
+                Karte.KREUZ_ASS, Karte.HERZ_KOENIG, Karte.PIK_KOENIG));
+
+        assertEquals(Kombination.FULL_HOUSE, ShortDeckBewerter.getKombination(fullHouse));
+        assertTrue(rang > fullHouse);
+    }
+
+    public void testBewerte_UngueltigeKarte() {
+
+        try {
+            ShortDeckBewerter.bewerte(KartenMaske.von(Karte.HERZ_ZWEI));
+            fail();
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+
+    /*
+     * Zufällige Hände aus sieben Karten müssen denselben Rang haben wie die
+     * beste ihrer 21 Teilmengen aus fünf Karten, jede einzeln mit dem
+     * HandBewerter und den Short-Deck-Regeln bewertet.
+     */
+    public void testBewerte_wieAlleTeilmengen() {
+
+        List<Karte> karten = KartenMaske.getKarten(ShortDeckBewerter.KARTEN);
+
+        assertEquals(36, karten.size());
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50000; i++) {
+
+            Collections.shuffle(karten, random);
+
+            Karte[] sieben = karten.subList(0, 7).toArray(new Karte[7]);
+
+            assertEquals(Arrays.toString(sieben), bewerteNaiv(sieben),
+                    ShortDeckBewerter.bewerte(KartenMaske.von(sieben)));
+        }
+    }
+
+    private static int bewerteNaiv(Karte[] karten) {
+
+        int besterRang = 0;
+
+        for (int ohne1 = 0; ohne1 < karten.length; ohne1++)
+            for (int ohne2 = ohne1 + 1; ohne2 < karten.length; ohne2++) {
+
+                long maske = KartenMaske.LEER;
+
+                for (int i = 0; i < karten.length; i++)
+                    if (i != ohne1 && i != ohne2)
+                        maske |= KartenMaske.von(karten[i]);
+
+                besterRang = Math.max(besterRang, bewerteFuenf(maske));
+            }
+
+        return besterRang;
+    }
+
+    private static int bewerteFuenf(long maske) {
+
+        int rang = HandBewerter.bewerte(maske);
+
+        Kombination kombination = HandBewerter.getKombination(rang);
+
+        boolean flush = kombination == Kombination.FLUSH;
+
+        if (KartenMaske.getWertMaske(maske) == WHEEL)
+            return (flush ? Kombination.STRAIGTH_FLUSH : Kombination.STRASSE).getWert() << HandBewerter.KOMBINATION_SHIFT
+                    | 7 << 16;
+
+        int rest = rang & ((1 << HandBewerter.KOMBINATION_SHIFT) - 1);
+
+        if (flush)
+            return Kombination.FULL_HOUSE.getWert() << HandBewerter.KOMBINATION_SHIFT | rest;
+
+        if (kombination == Kombination.FULL_HOUSE)
+            return Kombination.FLUSH.getWert() << HandBewerter.KOMBINATION_SHIFT | rest;
+
+        return rang;
+    }
+}
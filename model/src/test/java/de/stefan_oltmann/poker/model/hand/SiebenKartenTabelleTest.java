@@ -0,0 +1,139 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.AssertionFailedError;
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Hand.Kombination;
+
+public class SiebenKartenTabelleTest extends TestCase {
+
+    private File datei;
+
+    @Override
+    protected void setUp() throws Exception {
+
+        datei = File.createTempFile("sieben_karten", ".tbl");
+        datei.deleteOnExit();
+
+        SiebenKartenTabelle.erzeuge(datei);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        datei.delete();
+    }
+
+    public void testBewerte_wieHandBewerter() throws IOException {
+
+        SiebenKartenTabelle tabelle = SiebenKartenTabelle.lade(datei);
+
+        Random random = new Random(4711);
+
+        Karte[] karten = Karte.values();
+
+        for (int i = 0; i < 200000; i++) {
+
+            long maske = KartenMaske.LEER;
+
+            while (KartenMaske.getAnzahl(maske) < SiebenKartenTabelle.ANZAHL_KARTEN)
+                maske |= KartenMaske.von(karten[random.nextInt(karten.length)]);
+
+            assertEquals(KartenMaske.toString(maske),
+                    HandBewerter.bewerte(maske), tabelle.bewerte(maske));
+        }
+    }
+
+    /*
+     * Alle 133.784.560 Hände aus sieben Karten müssen denselben Rang wie beim
+     * HandBewerter haben. Die Aufzählung bricht bei der ersten Abweichung ab.
+     */
+    public void testBewerte_alleSiebenKarten() throws IOException {
+
+        final SiebenKartenTabelle tabelle = SiebenKartenTabelle.lade(datei);
+
+        KombinationsStatistik statistik = new KombinationsAufzaehlung(ForkJoinPool.commonPool(), karten -> {
+
+            int rang = tabelle.bewerte(karten);
+
+            if (rang != HandBewerter.bewerte(karten))
+                throw new AssertionFailedError(KartenMaske.toString(karten) + ": " + rang
+                        + " statt " + HandBewerter.bewerte(karten));
+
+            return HandBewerter.getKombination(rang);
+
+        }).zaehle(SiebenKartenTabelle.ANZAHL_KARTEN);
+
+        assertEquals(133784560, statistik.getAnzahlHaende());
+    }
+
+    public void testBewerte_Kombinationen() throws IOException {
+
+        SiebenKartenTabelle tabelle = SiebenKartenTabelle.lade(datei);
+
+        int rang = tabelle.bewerte(Arrays.asList(
+                Karte.PIK_ASS,
+                Karte.PIK_KOENIG,
+                Karte.PIK_DAME,
+                Karte.PIK_BUBE,
+                Karte.PIK_ZEHN,
+                Karte.HERZ_ASS,
+                Karte.KARO_ASS));
+
+        assertEquals(Kombination.ROYAL_FLUSH, HandBewerter.getKombination(rang));
+
+        rang = tabelle.bewerte(Arrays.asList(
+                Karte.HERZ_SIEBEN,
+                Karte.KARO_SIEBEN,
+                Karte.PIK_SIEBEN,
+                Karte.KREUZ_SIEBEN,
+                Karte.KARO_DAME,
+                Karte.PIK_DAME,
+                Karte.PIK_ZWEI));
+
+        assertEquals(Kombination.VIERLING, HandBewerter.getKombination(rang));
+    }
+
+    public void testLade_ungueltigeDatei() throws IOException {
+
+        FileOutputStream out = new FileOutputStream(datei);
+        out.write(new byte[] { 1, 2, 3, 4 });
+        out.close();
+
+        try {
+
+            SiebenKartenTabelle.lade(datei);
+
+            fail("Ungültige Datei wurde geladen.");
+
+        } catch (IOException e) {
+            /* Erwartet */
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.model.hand;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class StapelBewerterTest extends TestCase {
+
+    private static final int ANZAHL_HAENDE = 100000;
+
+    private long[] masken;
+    private byte[][] spalten;
+
+    @Override
+    protected void setUp() {
+
+        Random random = new Random(4711);
+
+        Karte[] karten = Karte.values();
+
+        masken = new long[ANZAHL_HAENDE];
+        spalten = new byte[7][ANZAHL_HAENDE];
+
+        for (int i = 0; i < ANZAHL_HAENDE; i++) {
+
+            long maske = KartenMaske.LEER;
+
+            for (int k = 0; k < 7; k++) {
+
+                Karte karte;
+
+                do
+                    karte = karten[random.nextInt(karten.length)];
+                while (KartenMaske.enthaelt(maske, karte));
+
+                maske |= KartenMaske.von(karte);
+                spalten[k][i] = (byte) karte.ordinal();
+            }
+
+            masken[i] = maske;
+        }
+    }
+
+    public void testBewerte_Masken() {
+
+        int[] raenge = new int[ANZAHL_HAENDE];
+
+        StapelBewerter.bewerte(masken, raenge);
+
+        for (int i = 0; i < ANZAHL_HAENDE; i++)
+            assertEquals(HandBewerter.bewerte(masken[i]), raenge[i]);
+    }
+
+    public void testBewerteParallel_Masken() {
+
+        int[] raenge = new int[ANZAHL_HAENDE];
+
+        StapelBewerter.bewerteParallel(masken, raenge);
+
+        for (int i = 0; i < ANZAHL_HAENDE; i++)
+            assertEquals(HandBewerter.bewerte(masken[i]), raenge[i]);
+    }
+
+    public void testBewerte_SiebenKartenTabelle() throws IOException {
+
+        File datei = File.createTempFile("sieben_karten", ".tbl");
+
+        try {
+
+            SiebenKartenTabelle.erzeuge(datei);
+
+            SiebenKartenTabelle tabelle = SiebenKartenTabelle.lade(datei);
+
+            int[] raenge = new int[ANZAHL_HAENDE];
+            int[] raengeParallel = new int[ANZAHL_HAENDE];
+
+            StapelBewerter.bewerte(tabelle, masken, raenge);
+            StapelBewerter.bewerteParallel(tabelle, masken, raengeParallel);
+
+            for (int i = 0; i < ANZAHL_HAENDE; i++) {
+                assertEquals(HandBewerter.bewerte(masken[i]), raenge[i]);
+                assertEquals(raenge[i], raengeParallel[i]);
+            }
+
+        } finally {
+
+            datei.delete();
+        }
+    }
+
+    public void testBewerte_Spalten() {
+
+        int[] raenge = new int[ANZAHL_HAENDE];
+        int[] raengeParallel = new int[ANZAHL_HAENDE];
+
+        StapelBewerter.bewerte(spalten, raenge);
+        StapelBewerter.bewerteParallel(spalten, raengeParallel);
+
+        for (int i = 0; i < ANZAHL_HAENDE; i++) {
+            assertEquals(HandBewerter.bewerte(masken[i]), raenge[i]);
+            assertEquals(raenge[i], raengeParallel[i]);
+        }
+    }
+
+    public void testBewerte_RaengeZuKurz() {
+
+        try {
+
+            StapelBewerter.bewerte(masken, new int[10]);
+
+            fail("Es hätte eine Exception geben müssen.");
+
+        } catch (IllegalArgumentException e) {
+            /* Erwartet */
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.security.SecureRandom;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import de.stefan_oltmann.poker.model.hand.Deck;
+import de.stefan_oltmann.poker.model.hand.Variante;
+import de.stefan_oltmann.poker.model.hand.Zufallsquelle;
+
+/**
+ * Der DeckVorrat mischt Decks im Voraus auf einem eigenen Thread. Jedes Deck
+ * bekommt einen Seed von 256 Bit aus einem kryptographisch sicheren
+ * {@link SecureRandom}, der mit SHA-256 zu den Zufallszahlen für das Mischen
+ * erweitert wird (siehe {@link Zufallsquelle#mitSeed(byte[])}). So hängt der
+ * Start einer Hand im {@link SpielController} nicht davon ab, wie lange
+ * dieser braucht oder ob er auf Entropie wartet.
+ *
+ * Über den Seed lässt sich jede Hand exakt nachspielen (siehe
+ * {@link HandReplay}).
+ *
+ * Für jede {@link Variante} liegen die fertigen Decks in einer eigenen
+ * lock-freien Queue, deren Größe über einen atomaren Zähler begrenzt wird.
+ * Die Kapazität gilt je Variante. Ist der Vorrat einer Variante leer, wird
+ * das Deck ersatzweise direkt auf dem aufrufenden Thread gemischt und als
+ * Fallback gezählt.
+ */
+public class DeckVorrat {
+
+    public static final int STANDARD_KAPAZITAET = 64;
+
+    private final Map<Variante, Vorrat> vorraete = new EnumMap<Variante, Vorrat>(Variante.class);
+
+    private final int kapazitaet;
+
+    /* Liefert die Seeds der Decks, muss thread-sicher sein */
+    private final Random seeds;
+
+    private final AtomicLong erzeugt = new AtomicLong();
+    private final AtomicLong ausgegeben = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    private volatile boolean laeuft;
+
+    private volatile Thread thread;
+
+    public DeckVorrat() {
+        this(STANDARD_KAPAZITAET, new SecureRandom());
+    }
+
+    /**
+     * Die Seeds werden aus "seeds" gezogen. Im Spiel muss das ein
+     * {@link SecureRandom} sein, Tests können einen Random mit festem Seed
+     * übergeben.
+     */
+    public DeckVorrat(int kapazitaet, Random seeds) {
+
+        if (kapazitaet < 1)
+            throw new IllegalArgumentException("Kapazität muss positiv sein: " + kapazitaet);
+
+        this.kapazitaet = kapazitaet;
+        this.seeds = seeds;
+
+        for (Variante variante : Variante.values())
+            vorraete.put(variante, new Vorrat());
+    }
+
+    /**
+     * Der gemeinsame Vorrat aller Tische. Er wird beim ersten Zugriff
+     * gestartet.
+     */
+    public static DeckVorrat getStandard() {
+        return Standard.VORRAT;
+    }
+
+    public synchronized void starte() {
+
+        if (laeuft)
+            return;
+
+        laeuft = true;
+
+        thread = new Thread(this::fuelleAuf, "DeckVorrat");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void stoppe() {
+
+        laeuft = false;
+
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    /**
+     * Liefert ein vollständig gemischtes Deck für Texas Hold'em.
+     */
+    public Deck naechstesDeck() {
+        return naechstesDeck(Variante.TEXAS_HOLDEM);
+    }
+
+    /**
+     * Liefert ein vollständig gemischtes Deck der Variante. Es darf nicht mit
+     * {@link Deck#neuMischen()} zurückgesetzt werden, sondern es wird für
+     * jede Hand ein neues geholt.
+     */
+    public Deck naechstesDeck(Variante variante) {
+
+        Vorrat vorrat = vorraete.get(variante);
+
+        Deck deck = vorrat.decks.poll();
+
+        if (deck != null) {
+
+            vorrat.fuellstand.decrementAndGet();
+
+            Thread hintergrund = thread;
+            if (hintergrund != null)
+                LockSupport.unpark(hintergrund);
+
+        } else {
+
+            fallbacks.incrementAndGet();
+
+            deck = mische(variante);
+        }
+
+        ausgegeben.incrementAndGet();
+
+        return deck;
+    }
+
+    /*
+     * Metriken
+     */
+
+    public int getKapazitaet() {
+        return kapazitaet;
+    }
+
+    /** Anzahl der fertig gemischten Decks im Vorrat über alle Varianten */
+    public int getFuellstand() {
+
+        int summe = 0;
+
+        for (Vorrat vorrat : vorraete.values())
+            summe += vorrat.fuellstand.get();
+
+        return summe;
+    }
+
+    /** Anzahl der fertig gemischten Decks im Vorrat der Variante */
+    public int getFuellstand(Variante variante) {
+        return vorraete.get(variante).fuellstand.get();
+    }
+
+    /** Anzahl der im Hintergrund gemischten Decks */
+    public long getErzeugt() {
+        return erzeugt.get();
+    }
+
+    public long getAusgegeben() {
+        return ausgegeben.get();
+    }
+
+    /** Anzahl der Decks, die mangels Vorrat direkt gemischt wurden */
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DeckVorrat[" + getFuellstand() + "/" + kapazitaet * vorraete.size() + " ausgegeben=" + getAusgegeben()
+                + " fallbacks=" + getFallbacks() + "]";
+    }
+
+    /*
+     * Hintergrund-Thread
+     */
+
+    private void fuelleAuf() {
+
+        while (laeuft) {
+
+            boolean voll = true;
+
+            /* Reihum je ein Deck, damit keine Variante lange leer bleibt. */
+            for (Map.Entry<Variante, Vorrat> eintrag : vorraete.entrySet()) {
+
+                Vorrat vorrat = eintrag.getValue();
+
+                if (vorrat.fuellstand.get() >= kapazitaet)
+                    continue;
+
+                voll = false;
+
+                vorrat.decks.offer(mische(eintrag.getKey()));
+
+                vorrat.fuellstand.incrementAndGet();
+                erzeugt.incrementAndGet();
+            }
+
+            /* Wird beim Entnehmen eines Decks wieder geweckt. */
+            if (voll)
+                LockSupport.park(this);
+        }
+    }
+
+    private Deck mische(Variante variante) {
+
+        byte[] seed = new byte[Zufallsquelle.SICHERER_SEED_LAENGE];
+
+        seeds.nextBytes(seed);
+
+        Deck deck = new Deck(variante, seed);
+
+        deck.mische(variante.getAnzahlKarten());
+
+        return deck;
+    }
+
+    private static class Vorrat {
+
+        private final Queue<Deck> decks = new ConcurrentLinkedQueue<Deck>();
+
+        private final AtomicInteger fuellstand = new AtomicInteger();
+    }
+
+    private static class Standard {
+
+        private static final DeckVorrat VORRAT = new DeckVorrat();
+
+        static {
+            VORRAT.starte();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.google.gson.Gson;
+
+import de.stefan_oltmann.poker.model.hand.Variante;
+
+/**
+ * Die Aufzeichnung einer Hand: der Seed des Decks, der Zustand des Tisches zu
+ * Beginn und alle Aufrufe am {@link de.stefan_oltmann.poker.model.Spiel}
+ * während der Hand. Die Aufrufe liegen als JSON-kodierte
+ * {@link de.stefan_oltmann.poker.model.dto.ServerMessage}s vor, genau wie sie
+ * an die Clients gehen.
+ *
+ * Mit dem {@link HandReplay} lässt sich die Hand damit exakt nachspielen.
+ */
+public class HandAufzeichnung {
+
+    private static final Gson GSON = new Gson();
+
+    private String spielId;
+
+    /* Fehlt in älteren Aufzeichnungen, dann Texas Hold'em */
+    private Variante variante;
+
+    /* Base64-kodiert, siehe Deck#getSichererSeed() */
+    private String seed;
+
+    /** Die Spieler am Tisch, der Button und das Blind-Level */
+    private List<String> startNachrichten = new ArrayList<String>();
+
+    /** Alle Aufrufe während der Hand bis einschließlich endHand() */
+    private List<String> nachrichten = new ArrayList<String>();
+
+    public HandAufzeichnung(String spielId, Variante variante, byte[] seed) {
+        this.spielId = spielId;
+        this.variante = variante;
+        this.seed = Base64.getEncoder().encodeToString(seed);
+    }
+
+    public String getSpielId() {
+        return spielId;
+    }
+
+    public Variante getVariante() {
+        return variante != null ? variante : Variante.TEXAS_HOLDEM;
+    }
+
+    public byte[] getSeed() {
+        return Base64.getDecoder().decode(seed);
+    }
+
+    public List<String> getStartNachrichten() {
+        return startNachrichten;
+    }
+
+    public List<String> getNachrichten() {
+        return nachrichten;
+    }
+
+    /**
+     * Liefert die Aufzeichnung als eine Zeile JSON.
+     */
+    public String toJson() {
+        return GSON.toJson(this);
+    }
+
+    public static HandAufzeichnung vonJson(String json) {
+        return GSON.fromJson(json, HandAufzeichnung.class);
+    }
+
+    @Override
+    public String toString() {
+        return "HandAufzeichnung[" + spielId + " " + getVariante() + " nachrichten=" + nachrichten.size() + "]";
+    }
+}
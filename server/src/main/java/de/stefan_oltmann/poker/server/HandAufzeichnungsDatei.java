@@ -0,0 +1,129 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hängt jede abgeschlossene {@link HandAufzeichnung} als eine Zeile JSON an
+ * eine Datei an, wie sie der {@link HandReplay} einliest.
+ *
+ * Die Aufzeichnungen enthalten den Seed des Decks und damit alle Hole Cards.
+ * Die Datei darf also nur für den Betreiber des Servers lesbar sein: Eine neue
+ * Datei wird mit rw------- angelegt, eine bestehende, die auch für Gruppe oder
+ * andere zugänglich ist, wird abgelehnt. Auf Dateisystemen ohne
+ * POSIX-Rechte muss der Betreiber selbst dafür sorgen.
+ *
+ * Das Aufzeichnen dient nur der Diagnose und darf das Spiel nicht stören.
+ * Schlägt das Schreiben fehl (z.B. bei voller Platte), wird der Fehler
+ * gemeldet und die Aufzeichnung eingestellt.
+ */
+public class HandAufzeichnungsDatei implements Consumer<HandAufzeichnung>, Closeable {
+
+    private static final Set<PosixFilePermission> NUR_BESITZER = PosixFilePermissions.fromString("rw-------");
+
+    private final File datei;
+
+    private final BufferedWriter writer;
+
+    /* Nach dem ersten Fehler wird nichts mehr geschrieben. */
+    private boolean eingestellt;
+
+    public HandAufzeichnungsDatei(File datei) throws IOException {
+
+        this.datei = datei;
+
+        Path pfad = datei.toPath();
+
+        if (pfad.getFileSystem().supportedFileAttributeViews().contains("posix"))
+            stelleSicherDassNurBesitzerZugreift(pfad);
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(pfad, StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+                StandardCharsets.UTF_8));
+    }
+
+    private static void stelleSicherDassNurBesitzerZugreift(Path pfad) throws IOException {
+
+        try {
+
+            Files.createFile(pfad, PosixFilePermissions.asFileAttribute(NUR_BESITZER));
+
+        } catch (FileAlreadyExistsException e) {
+
+            Set<PosixFilePermission> rechte = EnumSet.copyOf(Files.getPosixFilePermissions(pfad));
+
+            rechte.removeAll(NUR_BESITZER);
+
+            if (!rechte.isEmpty())
+                throw new IOException("Die Aufzeichnungen in " + pfad + " dürfen nur für den Besitzer zugänglich sein: "
+                        + PosixFilePermissions.toString(Files.getPosixFilePermissions(pfad)));
+        }
+    }
+
+    @Override
+    public synchronized void accept(HandAufzeichnung aufzeichnung) {
+
+        if (eingestellt)
+            return;
+
+        try {
+
+            writer.write(aufzeichnung.toJson());
+            writer.newLine();
+            writer.flush();
+
+        } catch (IOException e) {
+
+            eingestellt = true;
+
+            System.err.println("Aufzeichnung in " + datei + " fehlgeschlagen, weitere Hände werden nicht aufgezeichnet: "
+                    + e);
+        }
+    }
+
+    public synchronized boolean isEingestellt() {
+        return eingestellt;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+
+        eingestellt = true;
+
+        writer.close();
+    }
+}
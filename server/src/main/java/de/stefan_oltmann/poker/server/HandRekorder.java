@@ -0,0 +1,144 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.util.function.Consumer;
+
+import de.stefan_oltmann.poker.commons.MessageSender;
+import de.stefan_oltmann.poker.model.Spieler;
+import de.stefan_oltmann.poker.model.SpielImpl;
+import de.stefan_oltmann.poker.model.SpielerStatus;
+
+/**
+ * Der HandRekorder schneidet als Listener alle Änderungen am Spiel mit. Dazu
+ * werden die Events wie beim {@link ServerJsonEventSender} in Nachrichten
+ * übersetzt, aber statt an die Clients in eine {@link HandAufzeichnung}
+ * geschrieben.
+ *
+ * Der {@link SpielController} startet die Aufzeichnung zu Beginn jeder Hand
+ * mit dem Seed des Decks. Mit dem Ende der Hand wird sie abgeschlossen und
+ * an das Ziel übergeben.
+ */
+public class HandRekorder extends ServerJsonEventSender {
+
+    private final String spielId;
+
+    private final Puffer puffer;
+
+    private final Consumer<HandAufzeichnung> ziel;
+
+    public HandRekorder(String spielId, Consumer<HandAufzeichnung> ziel) {
+        this(spielId, new Puffer(), ziel);
+    }
+
+    private HandRekorder(String spielId, Puffer puffer, Consumer<HandAufzeichnung> ziel) {
+        super(spielId, puffer);
+        this.spielId = spielId;
+        this.puffer = puffer;
+        this.ziel = ziel;
+    }
+
+    /**
+     * Beginnt die Aufzeichnung einer neuen Hand. Der aktuelle Stand des
+     * Tisches wird als Start-Nachrichten festgehalten.
+     */
+    public void beginneHand(byte[] seed, SpielImpl spiel) {
+
+        if (seed == null)
+            throw new IllegalArgumentException("Parameter 'seed' darf nicht NULL sein.");
+
+        HandAufzeichnung aufzeichnung = new HandAufzeichnung(spielId, spiel.getVariante(), seed);
+
+        puffer.aufzeichnung = aufzeichnung;
+        puffer.start = true;
+
+        for (int platz = 0; platz < spiel.getAnzahlSpielerPlaetze(); platz++) {
+
+            Spieler spieler = spiel.getSpielerAn(platz);
+
+            if (spieler == null)
+                continue;
+
+            sitIn(spieler, platz, spieler.getChipsImStack());
+
+            if (spieler.getStatus() == SpielerStatus.SITZT_AUS)
+                sitOut(spieler);
+        }
+
+        changeBlindLevel(spiel.getBlindHoehe());
+
+        if (spiel.getDealer() != null)
+            setzeButton(spiel.getDealer());
+
+        puffer.start = false;
+    }
+
+    public boolean isAufzeichnungLaeuft() {
+        return puffer.aufzeichnung != null;
+    }
+
+    @Override
+    public void onHandEnded() {
+
+        super.onHandEnded();
+
+        HandAufzeichnung aufzeichnung = puffer.aufzeichnung;
+
+        if (aufzeichnung == null)
+            return;
+
+        puffer.aufzeichnung = null;
+
+        /*
+         * Wir laufen innerhalb von endHand() auf dem Spiel-Thread. Ein Fehler
+         * beim Aufzeichnen darf die Hand nicht abbrechen.
+         */
+        try {
+            ziel.accept(aufzeichnung);
+        } catch (RuntimeException e) {
+            System.err.println("Aufzeichnung " + aufzeichnung + " fehlgeschlagen: " + e);
+        }
+    }
+
+    /*
+     * Nimmt die Nachrichten der aktuellen Hand entgegen. Außerhalb einer
+     * Hand wird nichts aufgezeichnet.
+     */
+    private static class Puffer implements MessageSender {
+
+        private HandAufzeichnung aufzeichnung;
+
+        private boolean start;
+
+        @Override
+        public void send(String message) {
+
+            if (aufzeichnung == null)
+                return;
+
+            if (start)
+                aufzeichnung.getStartNachrichten().add(message);
+            else
+                aufzeichnung.getNachrichten().add(message);
+        }
+    }
+}
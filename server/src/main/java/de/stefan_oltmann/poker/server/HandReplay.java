@@ -0,0 +1,206 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+
+import de.stefan_oltmann.poker.model.SpielImpl;
+import de.stefan_oltmann.poker.model.Spieler;
+import de.stefan_oltmann.poker.model.SpielerStatus;
+import de.stefan_oltmann.poker.model.dto.CanLoadSpieler;
+import de.stefan_oltmann.poker.model.dto.ServerMessage;
+import de.stefan_oltmann.poker.model.dto.ServerMessage.MessageType;
+import de.stefan_oltmann.poker.model.hand.Deck;
+import de.stefan_oltmann.poker.model.hand.Karte;
+
+/**
+ * Spielt aufgezeichnete Hände ohne Netzwerk und ohne Wartezeiten auf einer
+ * frischen {@link SpielImpl} nach.
+ *
+ * Hole Cards und Gemeinschaftskarten werden dabei wie im
+ * {@link SpielController} (mit Burn Cards) aus einem Deck mit dem
+ * aufgezeichneten Seed gezogen. Weichen sie von den aufgezeichneten bzw. im
+ * Showdown aufgedeckten Karten ab, wird die Hand abgebrochen.
+ *
+ * Aufruf: HandReplay &lt;Datei mit einer Aufzeichnung pro Zeile&gt; [Wiederholungen]
+ */
+public class HandReplay {
+
+    private static final Gson GSON = new Gson();
+
+    private HandReplay() {
+        /* Nur statische Methoden */
+    }
+
+    /**
+     * Spielt die Hand nach und liefert das Spiel nach endHand().
+     */
+    public static SpielImpl spieleNach(HandAufzeichnung aufzeichnung) {
+
+        SpielImpl spiel = new SpielImpl(aufzeichnung.getSpielId(), aufzeichnung.getVariante());
+
+        Map<String, Spieler> spielerMap = new HashMap<String, Spieler>();
+
+        CanLoadSpieler canLoadSpieler = new CanLoadSpieler() {
+
+            @Override
+            public Spieler findSpielerById(String spielerId) {
+
+                if (spielerId == null)
+                    return null;
+
+                Spieler spieler = spielerMap.get(spielerId);
+
+                if (spieler == null)
+                    throw new IllegalStateException("Unbekannte Spieler-ID " + spielerId);
+
+                return spieler;
+            }
+        };
+
+        for (String json : aufzeichnung.getStartNachrichten())
+            fuehreAus(GSON.fromJson(json, ServerMessage.class), spiel, spielerMap, canLoadSpieler);
+
+        /* Wie SpielController.starteNeueRunde() */
+        for (Spieler spieler : spiel.getAlleSpieler())
+            if (spieler != null && spieler.getStatus() == SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE)
+                spieler.setStatus(SpielerStatus.WARTET);
+
+        Deck deck = new Deck(aufzeichnung.getVariante(), aufzeichnung.getSeed());
+
+        Karte[] holeCards = new Karte[2 * SpielImpl.MAX_SPIELER];
+
+        for (String json : aufzeichnung.getNachrichten()) {
+
+            ServerMessage serverMessage = GSON.fromJson(json, ServerMessage.class);
+
+            /* Vor dem Ausführen, damit eine kaputte Aufzeichnung klar gemeldet wird */
+            int platz = serverMessage.getTyp() == MessageType.SHOW_HOLE_CARDS
+                    ? findePlatz(aufzeichnung, spiel, spielerMap.get(serverMessage.getSpielerId()),
+                            serverMessage.getSpielerId())
+                    : -1;
+
+            fuehreAus(serverMessage, spiel, spielerMap, canLoadSpieler);
+
+            switch (serverMessage.getTyp()) {
+            case DEAL_HOLE_CARDS:
+                SpielController.teileHoleCardsAus(spiel, deck, holeCards);
+                break;
+            case SHOW_HOLE_CARDS:
+                pruefeKarte(holeCards[2 * platz], serverMessage.getHoleCard1());
+                pruefeKarte(holeCards[2 * platz + 1], serverMessage.getHoleCard2());
+                break;
+            case DEAL_FLOP:
+                deck.hebeKarteAb();
+                pruefeKarte(deck, serverMessage.getFlop1());
+                pruefeKarte(deck, serverMessage.getFlop2());
+                pruefeKarte(deck, serverMessage.getFlop3());
+                break;
+            case DEAL_TURN:
+                deck.hebeKarteAb();
+                pruefeKarte(deck, serverMessage.getTurn());
+                break;
+            case DEAL_RIVER:
+                deck.hebeKarteAb();
+                pruefeKarte(deck, serverMessage.getRiver());
+                break;
+            default:
+                break;
+            }
+        }
+
+        return spiel;
+    }
+
+    private static void fuehreAus(ServerMessage serverMessage, SpielImpl spiel, Map<String, Spieler> spielerMap,
+            CanLoadSpieler canLoadSpieler) {
+
+        if (serverMessage.getTyp() == MessageType.SIT_IN) {
+
+            String nickName = serverMessage.getNickName() != null ? serverMessage.getNickName()
+                    : serverMessage.getSpielerId();
+
+            spielerMap.put(serverMessage.getSpielerId(),
+                    new Spieler(serverMessage.getSpielerId(), nickName, spiel.getId()));
+        }
+
+        serverMessage.fuehreAusAuf(spiel, canLoadSpieler);
+    }
+
+    private static int findePlatz(HandAufzeichnung aufzeichnung, SpielImpl spiel, Spieler spieler, String spielerId) {
+
+        int platz = spieler != null ? spiel.getAlleSpieler().indexOf(spieler) : -1;
+
+        if (platz < 0)
+            throw new IllegalStateException("Spieler-ID " + spielerId + " sitzt nicht am Tisch: " + aufzeichnung);
+
+        return platz;
+    }
+
+    private static void pruefeKarte(Deck deck, Karte aufgezeichnet) {
+        pruefeKarte(deck.hebeKarteAb(), aufgezeichnet);
+    }
+
+    private static void pruefeKarte(Karte karte, Karte aufgezeichnet) {
+
+        if (karte != aufgezeichnet)
+            throw new IllegalStateException("Seed passt nicht zur Aufzeichnung: " + karte + " statt " + aufgezeichnet);
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length < 1) {
+            System.err.println("Aufruf: HandReplay <Aufzeichnungen> [Wiederholungen]");
+            return;
+        }
+
+        List<HandAufzeichnung> aufzeichnungen = new ArrayList<HandAufzeichnung>();
+
+        for (String zeile : Files.readAllLines(new File(args[0]).toPath(), StandardCharsets.UTF_8))
+            if (!zeile.trim().isEmpty())
+                aufzeichnungen.add(HandAufzeichnung.vonJson(zeile));
+
+        int wiederholungen = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < wiederholungen; i++)
+            for (HandAufzeichnung aufzeichnung : aufzeichnungen)
+                spieleNach(aufzeichnung);
+
+        long dauerNanos = System.nanoTime() - start;
+
+        long haende = (long) wiederholungen * aufzeichnungen.size();
+
+        System.out.println(haende + " Hände in " + dauerNanos / 1000000 + " ms ("
+                + (long) (haende * 1e9 / Math.max(1, dauerNanos)) + " Hände/s)");
+    }
+}
@@ -21,9 +21,9 @@
  *****************************************************************************/
 package de.stefan_oltmann.poker.server;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.UnknownHostException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -42,6 +42,7 @@ import de.stefan_oltmann.poker.model.Spieler;
 import de.stefan_oltmann.poker.model.dto.CanLoadSpieler;
 import de.stefan_oltmann.poker.model.dto.ServerMessage;
 import de.stefan_oltmann.poker.model.dto.ServerMessage.MessageType;
+import de.stefan_oltmann.poker.model.hand.Variante;
 import de.stefan_oltmann.poker.server.persistence.DataAccessService;
 import de.stefan_oltmann.poker.server.persistence.DataAccessServiceMapDbImpl;
 
@@ -61,13 +62,26 @@ public class PokerServer extends WebSocketServer implements MessageSender {
 
     private Gson gson = new Gson();
 
-    public PokerServer(int port) throws UnknownHostException {
+    /** Die Datei für die Aufzeichnungen oder null */
+    private final HandAufzeichnungsDatei aufzeichnungen;
+
+    public PokerServer(int port) throws IOException {
+        this(port, Variante.TEXAS_HOLDEM, null);
+    }
+
+    /**
+     * @param variante die Variante, die an dem Tisch gespielt wird. Die
+     *            Clients erfahren sie beim Login.
+     * @param aufzeichnungsDatei an diese Datei wird jede Hand zum Nachspielen
+     *            angehängt, oder null
+     */
+    public PokerServer(int port, Variante variante, File aufzeichnungsDatei) throws IOException {
         super(new InetSocketAddress(port));
 
         this.dataAccessService = DataAccessServiceMapDbImpl.getInstance();
 
         /* Dummy Instanz des Spiels */
-        spiel = new SpielImpl("1");
+        spiel = new SpielImpl("1", variante);
 
         /*
          * Alle Änderungen am lokalen Spiel zwecks Synchronisation an alle
@@ -75,8 +89,19 @@ public class PokerServer extends WebSocketServer implements MessageSender {
          */
         spiel.addListener(new ServerJsonEventSender(spiel.getId(), this));
 
+        this.aufzeichnungen = aufzeichnungsDatei != null ? new HandAufzeichnungsDatei(aufzeichnungsDatei) : null;
+
         /* SpielController fügt sicht selber als Listener hinzu. */
-        new SpielController(spiel);
+        new SpielController(spiel, DeckVorrat.getStandard(), aufzeichnungen);
+    }
+
+    @Override
+    public void stop(int timeout) throws IOException, InterruptedException {
+
+        super.stop(timeout);
+
+        if (aufzeichnungen != null)
+            aufzeichnungen.close();
     }
 
     @Override
@@ -108,6 +133,7 @@ public class PokerServer extends WebSocketServer implements MessageSender {
             ServerMessage response = new ServerMessage();
             response.setTyp(MessageType.CREATE_ACCOUNT);
             response.setAccountId(account.getId());
+            setzeTisch(response);
 
             conn.send(gson.toJson(response));
 
@@ -145,6 +171,7 @@ public class PokerServer extends WebSocketServer implements MessageSender {
             ServerMessage response = new ServerMessage();
             response.setTyp(MessageType.LOGIN);
             response.setAccountId(account.getId());
+            setzeTisch(response);
 
             conn.send(gson.toJson(response));
 
@@ -218,6 +245,15 @@ public class PokerServer extends WebSocketServer implements MessageSender {
         }
     }
 
+    /*
+     * Der Client baut sein lokales Spiel mit derselben Variante auf, damit
+     * er die Hände genauso bewertet und auszahlt wie der Server.
+     */
+    private void setzeTisch(ServerMessage response) {
+        response.setSpielId(spiel.getId());
+        response.setVariante(spiel.getVariante());
+    }
+
     public void onFragment(WebSocket conn, Framedata fragment) {
         /* Nicht implementiert */
     }
@@ -230,9 +266,24 @@ public class PokerServer extends WebSocketServer implements MessageSender {
         } catch (Exception ex) {
         }
 
-        PokerServer s = new PokerServer(port);
+        /* Aufruf: PokerServer [Port] [Variante] [Datei für Aufzeichnungen] */
+        Variante variante = args.length > 1 ? Variante.valueOf(args[1]) : Variante.TEXAS_HOLDEM;
+
+        /* Hände werden nur aufgezeichnet, wenn eine Datei angegeben ist. */
+        File aufzeichnungsDatei = args.length > 2 ? new File(args[2]) : null;
+
+        PokerServer s = new PokerServer(port, variante, aufzeichnungsDatei);
         s.start();
 
+        /* Beim Beenden die Verbindungen und die Aufzeichnungen schließen. */
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                s.stop();
+            } catch (IOException | InterruptedException e) {
+                e.printStackTrace();
+            }
+        }));
+
         System.out.println("PokerServer gestartet.");
     }
 
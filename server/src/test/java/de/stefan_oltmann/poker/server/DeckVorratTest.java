@@ -0,0 +1,127 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Deck;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+import de.stefan_oltmann.poker.model.hand.Variante;
+
+public class DeckVorratTest extends TestCase {
+
+    public void testNaechstesDeck_OhneHintergrundThreadPerFallback() {
+
+        DeckVorrat vorrat = new DeckVorrat(4, new Random());
+
+        Deck deck = vorrat.naechstesDeck();
+
+        assertVollstaendig(deck);
+        assertEquals(1, vorrat.getFallbacks());
+        assertEquals(1, vorrat.getAusgegeben());
+        assertEquals(0, vorrat.getFuellstand());
+    }
+
+    public void testFuelltBisZurKapazitaetAuf() throws InterruptedException {
+
+        DeckVorrat vorrat = new DeckVorrat(4, new Random());
+
+        vorrat.starte();
+
+        try {
+
+            warteAufFuellstand(vorrat, Variante.TEXAS_HOLDEM, 4);
+
+            for (int i = 0; i < 4; i++)
+                assertVollstaendig(vorrat.naechstesDeck());
+
+            /* Nach dem Entnehmen wird wieder aufgefüllt. */
+            warteAufFuellstand(vorrat, Variante.TEXAS_HOLDEM, 4);
+            warteAufFuellstand(vorrat, Variante.SHORT_DECK, 4);
+
+            assertEquals(0, vorrat.getFallbacks());
+            assertEquals(12, vorrat.getErzeugt());
+
+        } finally {
+            vorrat.stoppe();
+        }
+    }
+
+    public void testNaechstesDeck_ShortDeckAusDemVorrat() throws InterruptedException {
+
+        DeckVorrat vorrat = new DeckVorrat(4, new Random());
+
+        vorrat.starte();
+
+        try {
+
+            warteAufFuellstand(vorrat, Variante.SHORT_DECK, 4);
+
+            assertVollstaendig(vorrat.naechstesDeck(Variante.SHORT_DECK), Variante.SHORT_DECK);
+
+            assertEquals(0, vorrat.getFallbacks());
+
+        } finally {
+            vorrat.stoppe();
+        }
+    }
+
+    public void testNaechstesDeck_ShortDeckPerFallback() {
+
+        DeckVorrat vorrat = new DeckVorrat(4, new Random());
+
+        assertVollstaendig(vorrat.naechstesDeck(Variante.SHORT_DECK), Variante.SHORT_DECK);
+
+        assertEquals(1, vorrat.getFallbacks());
+        assertEquals(1, vorrat.getAusgegeben());
+    }
+
+    private static void warteAufFuellstand(DeckVorrat vorrat, Variante variante, int fuellstand)
+            throws InterruptedException {
+
+        for (int i = 0; i < 500 && vorrat.getFuellstand(variante) < fuellstand; i++)
+            Thread.sleep(10);
+
+        assertEquals(fuellstand, vorrat.getFuellstand(variante));
+    }
+
+    private static void assertVollstaendig(Deck deck) {
+        assertVollstaendig(deck, Variante.TEXAS_HOLDEM);
+    }
+
+    private static void assertVollstaendig(Deck deck, Variante variante) {
+
+        Set<Karte> karten = EnumSet.noneOf(Karte.class);
+
+        for (int i = 0; i < variante.getAnzahlKarten(); i++) {
+
+            Karte karte = deck.hebeKarteAb();
+
+            assertTrue(karten.add(karte));
+            assertTrue((variante.getKarten() & KartenMaske.von(karte)) != 0);
+        }
+    }
+}
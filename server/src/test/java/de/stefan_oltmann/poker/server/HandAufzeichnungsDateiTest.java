@@ -0,0 +1,107 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.hand.Variante;
+import de.stefan_oltmann.poker.model.hand.Zufallsquelle;
+
+public class HandAufzeichnungsDateiTest extends TestCase {
+
+    public void testHaengtEineZeileProHandAn() throws IOException {
+
+        File datei = neueDatei();
+
+        byte[] seed = new byte[Zufallsquelle.SICHERER_SEED_LAENGE];
+        seed[0] = 1;
+
+        try (HandAufzeichnungsDatei ziel = new HandAufzeichnungsDatei(datei)) {
+            ziel.accept(new HandAufzeichnung("1", Variante.TEXAS_HOLDEM, seed));
+        }
+
+        /* Eine bestehende Datei wird fortgeschrieben. */
+        try (HandAufzeichnungsDatei ziel = new HandAufzeichnungsDatei(datei)) {
+            ziel.accept(new HandAufzeichnung("2", Variante.SHORT_DECK, seed));
+        }
+
+        List<String> zeilen = Files.readAllLines(datei.toPath(), StandardCharsets.UTF_8);
+
+        assertEquals(2, zeilen.size());
+
+        HandAufzeichnung zweite = HandAufzeichnung.vonJson(zeilen.get(1));
+
+        assertEquals("2", zweite.getSpielId());
+        assertEquals(Variante.SHORT_DECK, zweite.getVariante());
+        assertTrue(Arrays.equals(seed, zweite.getSeed()));
+    }
+
+    public void testNurFuerDenBesitzer() throws IOException {
+
+        File datei = neueDatei();
+
+        new HandAufzeichnungsDatei(datei).close();
+
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(datei.toPath())));
+
+        /* Für andere lesbare Aufzeichnungen werden abgelehnt. */
+        Files.setPosixFilePermissions(datei.toPath(), PosixFilePermissions.fromString("rw-r--r--"));
+
+        try {
+            new HandAufzeichnungsDatei(datei);
+            fail();
+        } catch (IOException e) {
+            /* Erwartet */
+        }
+    }
+
+    public void testNachDemSchliessenWirdNichtsMehrGeschrieben() throws IOException {
+
+        File datei = neueDatei();
+
+        HandAufzeichnungsDatei ziel = new HandAufzeichnungsDatei(datei);
+        ziel.close();
+
+        ziel.accept(new HandAufzeichnung("1", Variante.TEXAS_HOLDEM, new byte[Zufallsquelle.SICHERER_SEED_LAENGE]));
+
+        assertTrue(ziel.isEingestellt());
+        assertEquals(0, datei.length());
+    }
+
+    private static File neueDatei() throws IOException {
+
+        File verzeichnis = Files.createTempDirectory("haende").toFile();
+        verzeichnis.deleteOnExit();
+
+        File datei = new File(verzeichnis, "haende.json");
+        datei.deleteOnExit();
+
+        return datei;
+    }
+}
@@ -0,0 +1,186 @@
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.SpielImpl;
+import de.stefan_oltmann.poker.model.Spieler;
+import de.stefan_oltmann.poker.model.SpielerStatus;
+import de.stefan_oltmann.poker.model.hand.Deck;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.Variante;
+
+public class HandReplayTest extends TestCase {
+
+    private static final byte[] SEED = "Seed mit 256 Bit zum Nachspielen".getBytes(StandardCharsets.UTF_8);
+
+    private final List<HandAufzeichnung> aufzeichnungen = new ArrayList<HandAufzeichnung>();
+
+    private SpielImpl spiel;
+
+    private HandRekorder rekorder;
+
+    private Spieler alice;
+    private Spieler bob;
+
+    @Override
+    protected void setUp() {
+
+        spiel = new SpielImpl("123");
+
+        alice = new Spieler("1", "Alice", spiel.getId());
+        bob = new Spieler("2", "Bob", spiel.getId());
+
+        spiel.sitIn(alice, 1, 1500);
+        spiel.sitIn(bob, 2, 1500);
+
+        rekorder = new HandRekorder(spiel.getId(), aufzeichnungen::add);
+        spiel.addListener(rekorder);
+    }
+
+    public void testSpieleNach() {
+
+        SpielImpl original = spieleHand(SEED);
+
+        assertEquals(1, aufzeichnungen.size());
+
+        /* Über JSON, wie aus einer Datei */
+        HandAufzeichnung aufzeichnung = HandAufzeichnung.vonJson(aufzeichnungen.get(0).toJson());
+
+        assertTrue(Arrays.equals(SEED, aufzeichnung.getSeed()));
+
+        SpielImpl nachgespielt = HandReplay.spieleNach(aufzeichnung);
+
+        for (int platz = 1; platz <= 2; platz++)
+            assertEquals(original.getSpielerAn(platz).getChipsImStack(),
+                    nachgespielt.getSpielerAn(platz).getChipsImStack());
+
+        assertEquals(original.getChipsImPot(), nachgespielt.getChipsImPot());
+        assertEquals(original.getDealer().getId(), nachgespielt.getDealer().getId());
+
+        /* Der Pot wurde im Showdown verteilt. */
+        assertEquals(0, original.getChipsImPot());
+    }
+
+    public void testSpieleNach_FalscherSeed() {
+
+        spieleHand(SEED);
+
+        byte[] anderer = SEED.clone();
+        anderer[0]++;
+
+        HandAufzeichnung falsch = new HandAufzeichnung("123", Variante.TEXAS_HOLDEM, anderer);
+        falsch.getStartNachrichten().addAll(aufzeichnungen.get(0).getStartNachrichten());
+        falsch.getNachrichten().addAll(aufzeichnungen.get(0).getNachrichten());
+
+        try {
+            HandReplay.spieleNach(falsch);
+            fail();
+        } catch (IllegalStateException e) {
+            /* Erwartet */
+        }
+    }
+
+    public void testSpieleNach_UnbekannterSpieler() {
+
+        spieleHand(SEED);
+
+        HandAufzeichnung kaputt = new HandAufzeichnung("123", Variante.TEXAS_HOLDEM, SEED);
+        kaputt.getStartNachrichten().addAll(aufzeichnungen.get(0).getStartNachrichten());
+
+        for (String json : aufzeichnungen.get(0).getNachrichten())
+            kaputt.getNachrichten().add(json.contains("SHOW_HOLE_CARDS")
+                    ? json.replace("\"spielerId\":\"2\"", "\"spielerId\":\"99\"") : json);
+
+        try {
+            HandReplay.spieleNach(kaputt);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("99"));
+        }
+    }
+
+    public void testFehlerBeimAufzeichnenBrichtDieHandNichtAb() {
+
+        spiel.removeListener(rekorder);
+
+        rekorder = new HandRekorder(spiel.getId(), aufzeichnung -> {
+            throw new IllegalStateException("Platte voll");
+        });
+        spiel.addListener(rekorder);
+
+        spieleHand(SEED);
+
+        assertEquals(0, spiel.getChipsImPot());
+        assertFalse(rekorder.isAufzeichnungLaeuft());
+    }
+
+    /*
+     * Spielt eine Hand so ab, wie es der SpielController tut.
+     */
+    private SpielImpl spieleHand(byte[] seed) {
+
+        Deck deck = new Deck(Variante.TEXAS_HOLDEM, seed);
+
+        rekorder.beginneHand(seed, spiel);
+
+        alice.setStatus(SpielerStatus.WARTET);
+        bob.setStatus(SpielerStatus.WARTET);
+
+        spiel.setzeButton(alice);
+
+        spiel.setzeAktivenSpieler(bob, 1);
+        spiel.bet(bob, 1);
+        spiel.setzeAktivenSpieler(alice, 1);
+        spiel.bet(alice, 2);
+
+        Karte[] holeCards = new Karte[2 * SpielImpl.MAX_SPIELER];
+        SpielController.teileHoleCardsAus(spiel, deck, holeCards);
+        spiel.dealHoleCards();
+
+        deck.hebeKarteAb();
+        spiel.dealFlop(deck.hebeKarteAb(), deck.hebeKarteAb(), deck.hebeKarteAb());
+
+        spiel.setzeAktivenSpieler(bob, 1);
+        spiel.bet(bob, 100);
+        spiel.setzeAktivenSpieler(alice, 1);
+        spiel.raise(alice, 99);
+
+        deck.hebeKarteAb();
+        spiel.dealTurn(deck.hebeKarteAb());
+
+        deck.hebeKarteAb();
+        spiel.dealRiver(deck.hebeKarteAb());
+
+        spiel.showHoleCards(alice, holeCards[2], holeCards[3]);
+        spiel.showHoleCards(bob, holeCards[4], holeCards[5]);
+
+        spiel.endHand();
+
+        return spiel;
+    }
+}
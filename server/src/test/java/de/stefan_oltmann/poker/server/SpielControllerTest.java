@@ -1,218 +1,275 @@
-/*****************************************************************************
- * Stefans Poker Game                                                        *
- *                                                                           *
- * Copyright (C) 2016 Stefan Oltmann                                         *
- *                                                                           *
- * Contact : pokergame@stefan-oltmann.de                                     *
- * Homepage: http://www.stefan-oltmann.de/                                   *      
- *                                                                           *
- * This program is free software: you can redistribute it and/or modify      *
- * it under the terms of the GNU Affero General Public License as            *
- * published by the Free Software Foundation, either version 3 of the        *
- * License, or (at your option) any later version.                           *
- *                                                                           *
- * This program is distributed in the hope that it will be useful,           *
- * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
- * GNU Affero General Public License for more details.                       *
- *                                                                           *
- * You should have received a copy of the GNU Affero General Public License  *
- * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
- *****************************************************************************/
-package de.stefan_oltmann.poker.server;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import junit.framework.TestCase;
-import de.stefan_oltmann.poker.model.Account;
-import de.stefan_oltmann.poker.model.BlindHoehe;
-import de.stefan_oltmann.poker.model.SpielEventListener;
-import de.stefan_oltmann.poker.model.SpielImpl;
-import de.stefan_oltmann.poker.model.Spieler;
-import de.stefan_oltmann.poker.model.SpielerStatus;
-import de.stefan_oltmann.poker.model.hand.Karte;
-
-public class SpielControllerTest extends TestCase {
-
-    public static final Account ALICE = new Account("TEST1", "Alice", 1500);
-    public static final Account BOB = new Account("TEST2", "Bob", 1500);
-    public static final Account EVE = new Account("TEST3", "Eve", 1500);
-
-    /*
-     * TODO FIXME Unfertig
-     */
-    public void testSpielMitDreiSpielern() {
-
-        SpielImpl spiel = new SpielImpl("123");
-
-        SpielLog spielLog = new SpielLog();
-        spiel.addListener(spielLog);
-
-        SpielController spielController = new SpielController(spiel);
-
-        Spieler spielerAlice = new Spieler("1", ALICE.getId(), spiel.getId());
-        Spieler spielerBob = new Spieler("2", BOB.getId(), spiel.getId());
-        Spieler spielerEve = new Spieler("3", EVE.getId(), spiel.getId());
-
-        /*
-         * Status-Prüfung vor Start
-         */
-
-        assertEquals(0, spiel.getAnzahlAktiverSpieler());
-        assertFalse(spielController.isSpielLaueft());
-        assertNull(spiel.getDealer());
-        assertNull(spiel.getAktiverSpieler());
-
-        /* Drei Spieler treten bei uns warten auf die nächste Runde. */
-
-        spiel.sitIn(spielerAlice, 1, 1500);
-        assertEquals(1, spiel.getAnzahlAktiverSpieler());
-        assertFalse(spielController.isSpielLaueft());
-        assertEquals("sitIn Spieler[Account[TEST1:Alice]@Spiel[123]] platz=1 chips=1500", spielLog.getNextMessage());
-        assertEquals(SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE, spielerAlice.getStatus());
-
-        spiel.sitIn(spielerBob, 2, 1500);
-        assertEquals(2, spiel.getAnzahlAktiverSpieler());
-        assertTrue(spielController.isSpielLaueft());
-        assertEquals("sitIn Spieler[Account[TEST2:Bob]@Spiel[123]] platz=2 chips=1500", spielLog.getNextMessage());
-        assertEquals(SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE, spielerBob.getStatus());
-
-        spiel.sitIn(spielerEve, 3, 1500);
-        assertEquals(3, spiel.getAnzahlAktiverSpieler());
-        assertTrue(spielController.isSpielLaueft());
-        assertEquals("sitIn Spieler[Account[TEST3:Eve]@Spiel[123]] platz=3 chips=1500", spielLog.getNextMessage());
-        assertEquals(SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE, spielerEve.getStatus());
-
-        /*
-         * Das Spiel startet
-         */
-
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e1) {
-        }
-
-        /* Alice wird als Button ausgewählt */
-        assertEquals("setzeButton Spieler[Account[TEST1:Alice]@Spiel[123]]", spielLog.getNextMessage());
-
-        try {
-            Thread.sleep(9999);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
-    }
-
-    private class SpielLog implements SpielEventListener {
-
-        private List<String> messages = new ArrayList<String>();
-
-        // public List<String> getMessages() {
-        // return messages;
-        // }
-
-        public int counter = -1;
-
-        public String getNextMessage() {
-
-            this.counter++;
-
-            if (counter >= messages.size())
-                return null;
-
-            return messages.get(counter);
-        }
-
-        private void addMessage(String message) {
-            this.messages.add(message);
-            System.out.println("addMessage(): " + message);
-        }
-
-        @Override
-        public void onPlayerSatIn(Spieler spieler, int platzNummer, int chips) {
-            addMessage("sitIn " + spieler + " platz=" + platzNummer + " chips=" + chips);
-        }
-
-        @Override
-        public void onPlayerSatOut(Spieler spieler) {
-            addMessage("sitOut " + spieler);
-        }
-
-        @Override
-        public void onPlayerLeft(Spieler spieler) {
-            addMessage("leave " + spieler);
-        }
-
-        @Override
-        public void onHoleCardsDealt() {
-            addMessage("dealHoleCards");
-        }
-
-        @Override
-        public void onFlopDealt(Karte flop1, Karte flop2, Karte flop3) {
-            addMessage("dealFlop " + flop1 + " " + flop2 + " " + flop3);
-        }
-
-        @Override
-        public void onTurnDealt(Karte turn) {
-            addMessage("dealTurn " + turn);
-        }
-
-        @Override
-        public void onRiverDealt(Karte river) {
-            addMessage("dealRiver " + river);
-        }
-
-        @Override
-        public void onHandEnded() {
-            addMessage("endHand");
-        }
-
-        @Override
-        public void onButtonGesetzt(Spieler spieler) {
-            addMessage("setzeButton " + spieler);
-        }
-
-        @Override
-        public void onAktiverSpielerGesetzt(Spieler spieler, int sekunden) {
-            addMessage("setzeAktivenSpieler " + spieler);
-        }
-
-        @Override
-        public void onLetztenSpielerGesetzt(Spieler spieler) {
-            addMessage("setzeLetztenSpieler " + spieler);
-        }
-
-        @Override
-        public void onBlindLevelChanged(BlindHoehe blindHoehe) {
-            addMessage("changeBlindLevel " + blindHoehe);
-        }
-
-        @Override
-        public void onPlayerFold(Spieler spieler) {
-            addMessage("fold " + spieler);
-        }
-
-        @Override
-        public void onPlayerCheck(Spieler spieler) {
-            addMessage("check " + spieler);
-        }
-
-        @Override
-        public void onPlayerBet(Spieler spieler, int chips) {
-            addMessage("bet " + spieler + " chips=" + chips);
-        }
-
-        @Override
-        public void onPlayerRaise(Spieler spieler, int chips) {
-            addMessage("raise " + spieler + " chips=" + chips);
-        }
-
-        @Override
-        public void onHoleCardsShown(Spieler spieler, Karte holeCard1, Karte holeCard2) {
-            addMessage("showHoleCards " + holeCard1 + " " + holeCard2);
-        }
-    }
-
-}
+/*****************************************************************************
+ * Stefans Poker Game                                                        *
+ *                                                                           *
+ * Copyright (C) 2016 Stefan Oltmann                                         *
+ *                                                                           *
+ * Contact : pokergame@stefan-oltmann.de                                     *
+ * Homepage: http://www.stefan-oltmann.de/                                   *      
+ *                                                                           *
+ * This program is free software: you can redistribute it and/or modify      *
+ * it under the terms of the GNU Affero General Public License as            *
+ * published by the Free Software Foundation, either version 3 of the        *
+ * License, or (at your option) any later version.                           *
+ *                                                                           *
+ * This program is distributed in the hope that it will be useful,           *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of            *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the              *
+ * GNU Affero General Public License for more details.                       *
+ *                                                                           *
+ * You should have received a copy of the GNU Affero General Public License  *
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.     *
+ *****************************************************************************/
+package de.stefan_oltmann.poker.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import de.stefan_oltmann.poker.model.Account;
+import de.stefan_oltmann.poker.model.BlindHoehe;
+import de.stefan_oltmann.poker.model.SpielEventListener;
+import de.stefan_oltmann.poker.model.SpielImpl;
+import de.stefan_oltmann.poker.model.Spieler;
+import de.stefan_oltmann.poker.model.SpielerStatus;
+import de.stefan_oltmann.poker.model.hand.HandBewerter;
+import de.stefan_oltmann.poker.model.hand.Karte;
+import de.stefan_oltmann.poker.model.hand.KartenMaske;
+
+public class SpielControllerTest extends TestCase {
+
+    public static final Account ALICE = new Account("TEST1", "Alice", 1500);
+    public static final Account BOB = new Account("TEST2", "Bob", 1500);
+    public static final Account EVE = new Account("TEST3", "Eve", 1500);
+
+    /*
+     * TODO FIXME Unfertig
+     */
+    public void testSpielMitDreiSpielern() {
+
+        SpielImpl spiel = new SpielImpl("123");
+
+        SpielLog spielLog = new SpielLog();
+        spiel.addListener(spielLog);
+
+        SpielController spielController = new SpielController(spiel);
+
+        Spieler spielerAlice = new Spieler("1", ALICE.getId(), spiel.getId());
+        Spieler spielerBob = new Spieler("2", BOB.getId(), spiel.getId());
+        Spieler spielerEve = new Spieler("3", EVE.getId(), spiel.getId());
+
+        /*
+         * Status-Prüfung vor Start
+         */
+
+        assertEquals(0, spiel.getAnzahlAktiverSpieler());
+        assertFalse(spielController.isSpielLaueft());
+        assertNull(spiel.getDealer());
+        assertNull(spiel.getAktiverSpieler());
+
+        /* Drei Spieler treten bei uns warten auf die nächste Runde. */
+
+        spiel.sitIn(spielerAlice, 1, 1500);
+        assertEquals(1, spiel.getAnzahlAktiverSpieler());
+        assertFalse(spielController.isSpielLaueft());
+        assertEquals("sitIn Spieler[Account[TEST1:Alice]@Spiel[123]] platz=1 chips=1500", spielLog.getNextMessage());
+        assertEquals(SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE, spielerAlice.getStatus());
+
+        spiel.sitIn(spielerBob, 2, 1500);
+        assertEquals(2, spiel.getAnzahlAktiverSpieler());
+        assertTrue(spielController.isSpielLaueft());
+        assertEquals("sitIn Spieler[Account[TEST2:Bob]@Spiel[123]] platz=2 chips=1500", spielLog.getNextMessage());
+        assertEquals(SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE, spielerBob.getStatus());
+
+        spiel.sitIn(spielerEve, 3, 1500);
+        assertEquals(3, spiel.getAnzahlAktiverSpieler());
+        assertTrue(spielController.isSpielLaueft());
+        assertEquals("sitIn Spieler[Account[TEST3:Eve]@Spiel[123]] platz=3 chips=1500", spielLog.getNextMessage());
+        assertEquals(SpielerStatus.WARTET_AUF_NAECHSTE_RUNDE, spielerEve.getStatus());
+
+        /*
+         * Das Spiel startet
+         */
+
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e1) {
+        }
+
+        /* Alice wird als Button ausgewählt */
+        assertEquals("setzeButton Spieler[Account[TEST1:Alice]@Spiel[123]]", spielLog.getNextMessage());
+
+        try {
+            Thread.sleep(9999);
+        } catch (InterruptedException e) {
+            // TODO Auto-generated catch block
+            e.printStackTrace();
+        }
+    }
+
+    public void testShowdown() {
+
+        SpielImpl spiel = new SpielImpl("123");
+
+        Spieler alice = new Spieler("1", "Alice", spiel.getId());
+        Spieler bob = new Spieler("2", "Bob", spiel.getId());
+
+        /* Beide sitzen schon, daher startet der Controller keinen Thread. */
+        spiel.sitIn(alice, 1, 1500);
+        spiel.sitIn(bob, 2, 1500);
+
+        List<HandAufzeichnung> aufzeichnungen = new ArrayList<HandAufzeichnung>();
+
+        SpielController spielController = new SpielController(spiel, new DeckVorrat(1, new Random(4711)),
+                aufzeichnungen::add);
+
+        /* Alice hat den Button und den Big Blind, Bob den Small Blind. */
+        spielController.starteNeueRunde();
+
+        assertSame(bob, spiel.getAktiverSpieler());
+        spiel.bet(bob, 1);
+        spiel.setzeAktivenSpieler(alice, 1);
+        spiel.check(alice);
+
+        spielController.dealFlop();
+        spielController.dealTurn();
+        spielController.dealRiver();
+
+        spielController.zeigeHoleCards();
+
+        long board = KartenMaske.von(spiel.getFlop1(), spiel.getFlop2(), spiel.getFlop3(), spiel.getTurn(),
+                spiel.getRiver());
+
+        int rangAlice = HandBewerter.bewerte(board | KartenMaske.von(alice.getHoleCard1(), alice.getHoleCard2()));
+        int rangBob = HandBewerter.bewerte(board | KartenMaske.von(bob.getHoleCard1(), bob.getHoleCard2()));
+
+        assertTrue(rangAlice != rangBob);
+
+        spiel.endHand();
+
+        /* Der Pot aus beiden Big Blinds geht an den Gewinner. */
+        assertEquals(rangAlice > rangBob ? 1502 : 1498, alice.getChipsImStack());
+        assertEquals(rangBob > rangAlice ? 1502 : 1498, bob.getChipsImStack());
+        assertEquals(0, spiel.getChipsImPot());
+
+        /* Das Nachspielen teilt dieselben Karten aus und zahlt genauso aus. */
+        assertEquals(1, aufzeichnungen.size());
+
+        SpielImpl nachgespielt = HandReplay.spieleNach(aufzeichnungen.get(0));
+
+        assertEquals(alice.getChipsImStack(), nachgespielt.getSpielerAn(1).getChipsImStack());
+        assertEquals(bob.getChipsImStack(), nachgespielt.getSpielerAn(2).getChipsImStack());
+    }
+
+    private class SpielLog implements SpielEventListener {
+
+        private List<String> messages = new ArrayList<String>();
+
+        // public List<String> getMessages() {
+        // return messages;
+        // }
+
+        public int counter = -1;
+
+        public String getNextMessage() {
+
+            this.counter++;
+
+            if (counter >= messages.size())
+                return null;
+
+            return messages.get(counter);
+        }
+
+        private void addMessage(String message) {
+            this.messages.add(message);
+            System.out.println("addMessage(): " + message);
+        }
+
+        @Override
+        public void onPlayerSatIn(Spieler spieler, int platzNummer, int chips) {
+            addMessage("sitIn " + spieler + " platz=" + platzNummer + " chips=" + chips);
+        }
+
+        @Override
+        public void onPlayerSatOut(Spieler spieler) {
+            addMessage("sitOut " + spieler);
+        }
+
+        @Override
+        public void onPlayerLeft(Spieler spieler) {
+            addMessage("leave " + spieler);
+        }
+
+        @Override
+        public void onHoleCardsDealt() {
+            addMessage("dealHoleCards");
+        }
+
+        @Override
+        public void onFlopDealt(Karte flop1, Karte flop2, Karte flop3) {
+            addMessage("dealFlop " + flop1 + " " + flop2 + " " + flop3);
+        }
+
+        @Override
+        public void onTurnDealt(Karte turn) {
+            addMessage("dealTurn " + turn);
+        }
+
+        @Override
+        public void onRiverDealt(Karte river) {
+            addMessage("dealRiver " + river);
+        }
+
+        @Override
+        public void onHandEnded() {
+            addMessage("endHand");
+        }
+
+        @Override
+        public void onButtonGesetzt(Spieler spieler) {
+            addMessage("setzeButton " + spieler);
+        }
+
+        @Override
+        public void onAktiverSpielerGesetzt(Spieler spieler, int sekunden) {
+            addMessage("setzeAktivenSpieler " + spieler);
+        }
+
+        @Override
+        public void onLetztenSpielerGesetzt(Spieler spieler) {
+            addMessage("setzeLetztenSpieler " + spieler);
+        }
+
+        @Override
+        public void onBlindLevelChanged(BlindHoehe blindHoehe) {
+            addMessage("changeBlindLevel " + blindHoehe);
+        }
+
+        @Override
+        public void onPlayerFold(Spieler spieler) {
+            addMessage("fold " + spieler);
+        }
+
+        @Override
+        public void onPlayerCheck(Spieler spieler) {
+            addMessage("check " + spieler);
+        }
+
+        @Override
+        public void onPlayerBet(Spieler spieler, int chips) {
+            addMessage("bet " + spieler + " chips=" + chips);
+        }
+
+        @Override
+        public void onPlayerRaise(Spieler spieler, int chips) {
+            addMessage("raise " + spieler + " chips=" + chips);
+        }
+
+        @Override
+        public void onHoleCardsShown(Spieler spieler, Karte holeCard1, Karte holeCard2) {
+            addMessage("showHoleCards " + holeCard1 + " " + holeCard2);
+        }
+    }
+
+}